@@ -0,0 +1,42 @@
+package com.example.project;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+// A fixed, seeded set of two-player hands shared by the benchmarks, so every run measures
+// the same cards.
+public class BenchmarkCorpus {
+    public static final long SEED = 20240501L;
+    public static final int HANDS = 1024;
+
+    // Per hand: player 1 hole (2), player 2 hole (2), board (5)
+    public int[] ids = new int[HANDS * 9];
+    public Player[] player1 = new Player[HANDS];
+    public Player[] player2 = new Player[HANDS];
+    public ArrayList<ArrayList<Card>> boards = new ArrayList<>();
+    public String[] labels1 = new String[HANDS];
+    public String[] labels2 = new String[HANDS];
+
+    public BenchmarkCorpus() {
+        Deck deck = new Deck(new SplittableRandom(SEED));
+        for (int h = 0; h < HANDS; h++) {
+            deck.reset();
+            deck.dealIds(ids, h * 9, 9);
+
+            player1[h] = new Player();
+            player2[h] = new Player();
+            player1[h].addCard(Card.fromId(ids[h * 9]));
+            player1[h].addCard(Card.fromId(ids[h * 9 + 1]));
+            player2[h].addCard(Card.fromId(ids[h * 9 + 2]));
+            player2[h].addCard(Card.fromId(ids[h * 9 + 3]));
+
+            ArrayList<Card> board = new ArrayList<>();
+            for (int i = 4; i < 9; i++) {
+                board.add(Card.fromId(ids[h * 9 + i]));
+            }
+            boards.add(board);
+            labels1[h] = player1[h].playHand(board);
+            labels2[h] = player2[h].playHand(board);
+        }
+    }
+}
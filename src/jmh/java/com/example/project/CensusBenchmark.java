@@ -0,0 +1,26 @@
+package com.example.project;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+// Full censuses over the common fork-join pool; hands/sec is 2,598,960 (5 cards) or
+// 133,784,560 (7 cards) divided by the time per operation
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CensusBenchmark {
+    @Benchmark
+    public HandCensus fiveCards() {
+        return HandCensus.run(5);
+    }
+
+    @Benchmark
+    public HandCensus sevenCards() {
+        return HandCensus.run(7);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.project;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Deck construction and dealing a two-player hand (9 cards)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DealingBenchmark {
+    private Deck deck;
+    private int[] dealt = new int[9];
+
+    @Setup
+    public void setup() {
+        deck = new Deck(new SplittableRandom(BenchmarkCorpus.SEED));
+    }
+
+    @Benchmark
+    public Deck newDeck() {
+        return new Deck(new SplittableRandom(BenchmarkCorpus.SEED));
+    }
+
+    @Benchmark
+    public ArrayList<Card> dealCards() {
+        deck.reset();
+        return deck.dealCards(9);
+    }
+
+    @Benchmark
+    public void resetAndDealIds(Blackhole bh) {
+        deck.reset();
+        deck.dealIds(dealt, 0, 9);
+        bh.consume(dealt);
+    }
+}
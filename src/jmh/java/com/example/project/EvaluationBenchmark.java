@@ -0,0 +1,91 @@
+package com.example.project;
+
+import java.nio.IntBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Hand ranking and showdown over the seeded corpus. Each invocation walks the whole corpus,
+// so scores are per hand.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EvaluationBenchmark {
+    private BenchmarkCorpus corpus;
+    // Player 1's seven cards for every corpus hand, laid out for BatchEvaluator
+    private int[] batch;
+    private int[] strengths;
+    // The same hands and results in direct (off-heap) buffers
+    private HandBuffer directBatch;
+    private IntBuffer directStrengths;
+
+    @Setup
+    public void setup() {
+        corpus = new BenchmarkCorpus();
+        batch = new int[BenchmarkCorpus.HANDS * 7];
+        strengths = new int[BenchmarkCorpus.HANDS];
+        for (int h = 0; h < BenchmarkCorpus.HANDS; h++) {
+            batch[h * 7] = corpus.ids[h * 9];
+            batch[h * 7 + 1] = corpus.ids[h * 9 + 1];
+            System.arraycopy(corpus.ids, h * 9 + 4, batch, h * 7 + 2, 5);
+        }
+        directBatch = HandBuffer.allocate(BenchmarkCorpus.HANDS, true);
+        int[] hand = new int[7];
+        for (int h = 0; h < BenchmarkCorpus.HANDS; h++) {
+            System.arraycopy(batch, h * 7, hand, 0, 7);
+            directBatch.setHand(h, hand);
+        }
+        directStrengths = BatchEvaluator.allocateStrengths(BenchmarkCorpus.HANDS, true);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkCorpus.HANDS)
+    public void playHand(Blackhole bh) {
+        for (int h = 0; h < BenchmarkCorpus.HANDS; h++) {
+            bh.consume(corpus.player1[h].playHand(corpus.boards.get(h)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkCorpus.HANDS)
+    public void evaluateIds(Blackhole bh) {
+        int[] ids = corpus.ids;
+        int[] hand = new int[7];
+        for (int h = 0; h < BenchmarkCorpus.HANDS; h++) {
+            hand[0] = ids[h * 9];
+            hand[1] = ids[h * 9 + 1];
+            System.arraycopy(ids, h * 9 + 4, hand, 2, 5);
+            bh.consume(HandEvaluator.evaluate(hand, 0, 7));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkCorpus.HANDS)
+    public int[] evaluateBatch() {
+        BatchEvaluator.evaluate(batch, BenchmarkCorpus.HANDS, strengths);
+        return strengths;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkCorpus.HANDS)
+    public IntBuffer evaluateOffHeapBatch() {
+        BatchEvaluator.evaluate(directBatch, directStrengths);
+        return directStrengths;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkCorpus.HANDS)
+    public void determineWinner(Blackhole bh) {
+        for (int h = 0; h < BenchmarkCorpus.HANDS; h++) {
+            bh.consume(Game.determineWinner(corpus.player1[h], corpus.player2[h],
+                    corpus.labels1[h], corpus.labels2[h], corpus.boards.get(h)));
+        }
+    }
+}
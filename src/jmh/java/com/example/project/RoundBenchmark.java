@@ -0,0 +1,32 @@
+package com.example.project;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// A full round through Game.playRound (deal, playHand for every player, showdown), the same
+// code Game.play() runs, without the printing. Simulation deals and ranks card ids in its own
+// loop and isn't covered here.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RoundBenchmark {
+    private Deck deck;
+    private long round;
+
+    @Setup
+    public void setup() {
+        deck = new Deck(new SplittableRandom(BenchmarkCorpus.SEED));
+    }
+
+    @Benchmark
+    public RoundResult playRound() {
+        return Game.playRound(deck, 2, round++);
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.project;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.stream.IntStream;
+
+// Evaluates hands in bulk. Input is one flat int array of card ids, 7 per hand; output is one
+// HandEvaluator strength per hand. The kernel is a plain loop over the contiguous buffer that
+// keeps each hand's masks in locals, so nothing is allocated and nothing is shared.
+// The same kernel also reads a HandBuffer and writes an IntBuffer, so a batch too big for the
+// heap can stay in direct memory end to end.
+public class BatchEvaluator {
+    public static final int CARDS_PER_HAND = 7;
+    // Hands per parallel task
+    private static final int BLOCK = 4096;
+
+    // Evaluate the first `hands` hands of cards into out
+    public static void evaluate(int[] cards, int hands, int[] out) {
+        checkSizes(cards, hands, out);
+        evaluateBlock(cards, 0, hands, out);
+    }
+
+    // Every hand in cards; the length must be a whole number of hands
+    public static int[] evaluate(int[] cards) {
+        if (cards.length % CARDS_PER_HAND != 0) {
+            throw new IllegalArgumentException(cards.length + " card ids aren't a whole number of " + CARDS_PER_HAND + "-card hands");
+        }
+        int hands = cards.length / CARDS_PER_HAND;
+        int[] out = new int[hands];
+        evaluate(cards, hands, out);
+        return out;
+    }
+
+    // Same as evaluate, with blocks of hands spread over the common fork-join pool
+    public static void evaluateParallel(int[] cards, int hands, int[] out) {
+        checkSizes(cards, hands, out);
+        int blocks = (hands + BLOCK - 1) / BLOCK;
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int start = b * BLOCK;
+            evaluateBlock(cards, start, Math.min(BLOCK, hands - start), out);
+        });
+    }
+
+    // Evaluate every hand in the buffer into out, starting at out's position (which isn't moved)
+    public static void evaluate(HandBuffer hands, IntBuffer out) {
+        checkSizes(hands, out);
+        evaluateBlock(hands.getBuffer(), 0, hands.size(), out.slice());
+    }
+
+    public static void evaluateParallel(HandBuffer hands, IntBuffer out) {
+        checkSizes(hands, out);
+        ByteBuffer cards = hands.getBuffer();
+        IntBuffer strengths = out.slice();
+        int count = hands.size();
+        int blocks = (count + BLOCK - 1) / BLOCK;
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int start = b * BLOCK;
+            evaluateBlock(cards, start, Math.min(BLOCK, count - start), strengths);
+        });
+    }
+
+    // Room for one strength per hand, off the heap when direct is true
+    public static IntBuffer allocateStrengths(int hands, boolean direct) {
+        if (!direct) {
+            return IntBuffer.allocate(hands);
+        }
+        return ByteBuffer.allocateDirect(hands * 4).order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+
+    private static void checkSizes(HandBuffer hands, IntBuffer out) {
+        if (out.remaining() < hands.size()) {
+            throw new IllegalArgumentException("Buffers too small for " + hands.size() + " hands");
+        }
+    }
+
+    private static void checkSizes(int[] cards, int hands, int[] out) {
+        if (cards.length < hands * CARDS_PER_HAND || out.length < hands) {
+            throw new IllegalArgumentException("Buffers too small for " + hands + " hands");
+        }
+    }
+
+    private static void evaluateBlock(int[] cards, int start, int count, int[] out) {
+        int[] rankBit = HandEvaluator.RANK_BIT;
+        int[] suitOf = HandEvaluator.SUIT;
+        int index = start * CARDS_PER_HAND;
+        for (int h = start; h < start + count; h++) {
+            int m1 = 0, m2 = 0, m3 = 0, m4 = 0;
+            int suitCounts = 0;
+            long suitRanks = 0;
+            for (int c = 0; c < CARDS_PER_HAND; c++, index++) {
+                int id = cards[index];
+                int bit = rankBit[id];
+                int suit = suitOf[id];
+                m4 |= m3 & bit;
+                m3 |= m2 & bit;
+                m2 |= m1 & bit;
+                m1 |= bit;
+                suitCounts += 1 << (suit << 3);
+                suitRanks |= (long) bit << (suit << 4);
+            }
+            out[h] = HandEvaluator.strength(m1, m2, m3, m4, suitCounts, suitRanks);
+        }
+    }
+
+    private static void evaluateBlock(ByteBuffer cards, int start, int count, IntBuffer out) {
+        int[] rankBit = HandEvaluator.RANK_BIT;
+        int[] suitOf = HandEvaluator.SUIT;
+        int index = start * CARDS_PER_HAND;
+        for (int h = start; h < start + count; h++) {
+            int m1 = 0, m2 = 0, m3 = 0, m4 = 0;
+            int suitCounts = 0;
+            long suitRanks = 0;
+            for (int c = 0; c < CARDS_PER_HAND; c++, index++) {
+                int id = cards.get(index);
+                int bit = rankBit[id];
+                int suit = suitOf[id];
+                m4 |= m3 & bit;
+                m3 |= m2 & bit;
+                m2 |= m1 & bit;
+                m1 |= bit;
+                suitCounts += 1 << (suit << 3);
+                suitRanks |= (long) bit << (suit << 4);
+            }
+            out.put(h, HandEvaluator.strength(m1, m2, m3, m4, suitCounts, suitRanks));
+        }
+    }
+}
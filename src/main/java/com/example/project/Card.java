@@ -6,17 +6,86 @@ public class Card{
 
     private String suit;// The suit of the card (e.g., "♠", "♥", "♣", "♦")
 
+    // Card id from 0 to 51: suit index * 13 + rank index (same order Deck builds them in)
+    private int id;
+
+    // Packed card bits: rank bit (16-28), suit bit (12-15), rank index (8-11), rank prime (0-7)
+    private int bits;
+
+    // One prime per rank, so a product of primes identifies a multiset of ranks
+    private static final int[] PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41};
+
+    // The 52 shared cards, indexed by id
+    private static final Card[] CARDS = new Card[52];
+
+    static {
+        String[] suits = Utility.getSuits();
+        String[] ranks = Utility.getRanks();
+        for (int s = 0; s < suits.length; s++) {
+            for (int r = 0; r < ranks.length; r++) {
+                CARDS[idOf(r, s)] = new Card(ranks[r], suits[s]);
+            }
+        }
+    }
+
     public Card(String rank, String suit){
         this.rank = rank;
         this.suit = suit;
+        int rankIndex = Utility.getRankValue(rank) - 2;
+        int suitIndex = Utility.getSuitIndex(suit);
+        if (rankIndex < 0 || suitIndex < 0) {
+            throw new IllegalArgumentException("Unknown card: " + rank + " of " + suit);
+        }
+        this.id = idOf(rankIndex, suitIndex);
+        this.bits = bitsOf(id);
+    }
+
+    // Get the shared card for a rank and suit
+    public static Card of(String rank, String suit){
+        int rankIndex = Utility.getRankValue(rank) - 2;
+        int suitIndex = Utility.getSuitIndex(suit);
+        if (rankIndex < 0 || suitIndex < 0) {
+            throw new IllegalArgumentException("Unknown card: " + rank + " of " + suit);
+        }
+        return CARDS[idOf(rankIndex, suitIndex)];
+    }
+
+    // Get the shared card for an id from 0 to 51
+    public static Card fromId(int id){
+        return CARDS[id];
+    }
+
+    // Helpers that work on plain int ids, so hot loops never need Card objects
+    public static int idOf(int rankIndex, int suitIndex){return suitIndex * 13 + rankIndex;}
+    public static int rankOf(int id){return id % 13;}
+    public static int suitOf(int id){return id / 13;}
+
+    public static int bitsOf(int id){
+        int r = rankOf(id);
+        return (1 << (16 + r)) | (1 << (12 + suitOf(id))) | (r << 8) | PRIMES[r];
     }
 
     public String getRank(){return rank;}
     public String getSuit(){return suit;}
-    
+    public int getId(){return id;}
+    public int getBits(){return bits;}
+    public int getRankIndex(){return (bits >> 8) & 0xF;}
+    public int getSuitIndex(){return suitOf(id);}
+    public int getPrime(){return bits & 0xFF;}
+
+    @Override
+    public boolean equals(Object o){
+        return o instanceof Card && ((Card) o).id == id;
+    }
+
+    @Override
+    public int hashCode(){
+        return id;
+    }
+
     @Override
     public String toString(){
         return rank + " of " + suit;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,92 @@
+package com.example.project;
+
+public class CombinationIterator {
+    private int n;
+    private int k;
+    private int firstStart;
+    private int firstEnd;
+    // Current combination, always increasing; reused for every step so iterating never allocates
+    private int[] indexes;
+    private boolean started;
+    private boolean done;
+
+    // Walks every k-element combination of 0..n-1 in lexicographic order
+    public CombinationIterator(int n, int k) {
+        this(n, k, 0, n - k + 1);
+    }
+
+    // Same, but only the combinations whose first index is in [firstStart, firstEnd),
+    // so one enumeration can be split into independent ranges
+    public CombinationIterator(int n, int k, int firstStart, int firstEnd) {
+        if (k < 0 || k > n) {
+            throw new IllegalArgumentException("Can't choose " + k + " of " + n);
+        }
+        this.n = n;
+        this.k = k;
+        this.firstStart = firstStart;
+        this.firstEnd = Math.min(firstEnd, n - k + 1);
+        this.indexes = new int[k];
+    }
+
+    // Move to the next combination; returns false once they are used up
+    public boolean next() {
+        if (done) {
+            return false;
+        }
+        if (!started) {
+            started = true;
+            if (k == 0) {
+                return true;
+            }
+            if (firstStart >= firstEnd) {
+                done = true;
+                return false;
+            }
+            for (int i = 0; i < k; i++) {
+                indexes[i] = firstStart + i;
+            }
+            return true;
+        }
+        // Find the rightmost index that can still move right
+        int i = k - 1;
+        while (i >= 0 && indexes[i] == n - k + i) {
+            i--;
+        }
+        if (i < 0 || (i == 0 && indexes[0] + 1 >= firstEnd)) {
+            done = true;
+            return false;
+        }
+        indexes[i]++;
+        for (int j = i + 1; j < k; j++) {
+            indexes[j] = indexes[j - 1] + 1;
+        }
+        return true;
+    }
+
+    // The i-th index of the current combination
+    public int get(int i) {
+        return indexes[i];
+    }
+
+    public int size() {
+        return k;
+    }
+
+    // Start over from the first combination
+    public void reset() {
+        started = false;
+        done = false;
+    }
+
+    // Number of k-element combinations of n items
+    public static long count(int n, int k) {
+        if (k < 0 || k > n) {
+            return 0;
+        }
+        long result = 1;
+        for (int i = 1; i <= k; i++) {
+            result = result * (n - k + i) / i;
+        }
+        return result;
+    }
+}
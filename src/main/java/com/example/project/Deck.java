@@ -1,61 +1,195 @@
 package com.example.project;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 public class Deck {
-    private ArrayList<Card> cards;
+    // Card ids; the first `size` entries are still in the deck, the rest have been dealt
+    private int[] ids = new int[52];
+    // Where each card id currently sits in ids, so a known card can be pulled out in O(1)
+    private int[] positions = new int[52];
+    private int size;
+    private RandomGenerator random;
+    // While seeded, cards come from this SplitMix64 state (set by reset(seed, round)) instead
+    // of random; reseeding only mixes (seed, round) into it, with no generator to allocate
+    private long roundState;
+    private boolean seeded;
 
-    // Constructor creates a deck, fills it with 52 cards, and shuffles it.
+    // Constructor creates a deck and fills it with 52 cards.
+    // Dealing picks a random remaining card each time, so no up-front shuffle is needed.
     public Deck() {
-        cards = new ArrayList<>();
+        this(new SplittableRandom());
+    }
+
+    // Same, with the random generator the deck deals from (e.g. a seeded SplittableRandom)
+    public Deck(RandomGenerator random) {
+        this.random = random;
         initializeDeck();
-        shuffleDeck();
     }
 
-    // Return the list of cards (useful for debugging or if needed elsewhere)
+    // Return the cards still in the deck (useful for debugging or if needed elsewhere)
     public ArrayList<Card> getCards() {
+        ArrayList<Card> cards = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            cards.add(Card.fromId(ids[i]));
+        }
         return cards;
     }
 
     // Build a standard 52-card deck.
     public void initializeDeck() {
-        String[] suits = Utility.getSuits();
-        String[] ranks = Utility.getRanks();
-        for (String suit : suits) {
-            for (String rank : ranks) {
-                Card card = new Card(rank, suit);
-                cards.add(card);
-            }
+        for (int id = 0; id < 52; id++) {
+            ids[id] = id;
+            positions[id] = id;
+        }
+        size = 52;
+    }
+
+    // Put every card back, ready for the next hand. Nothing is allocated.
+    // Dealing goes back to the deck's own random generator.
+    public void reset() {
+        seeded = false;
+        initializeDeck();
+    }
+
+    // Put every card back and deal the next hand from the random stream for (seed, round).
+    // The cards that come out depend only on the seed and the round index, never on which
+    // thread or deck dealt earlier rounds, so any round can be dealt again on its own.
+    // The deck's own generator is left alone for later plain reset() calls.
+    public void reset(long seed, long round) {
+        roundState = roundSeed(seed, round);
+        seeded = true;
+        initializeDeck();
+    }
+
+    // The random stream for one round of a seeded run, as a generator of its own
+    public static SplittableRandom roundRandom(long seed, long round) {
+        return new SplittableRandom(roundSeed(seed, round));
+    }
+
+    private static long roundSeed(long seed, long round) {
+        // MurmurHash3 finalizer over the seed and the golden-ratio-spaced round index
+        return mix(seed + 0x9E3779B97F4A7C15L * (round + 1));
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // A random index in [0, bound)
+    private int nextIndex(int bound) {
+        if (!seeded) {
+            return random.nextInt(bound);
         }
+        // SplitMix64 step, then scale the top 32 bits to the bound (the bias is below 2^-26
+        // for a 52-card deck)
+        roundState += 0x9E3779B97F4A7C15L;
+        long z = roundState;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        z ^= z >>> 31;
+        return (int) (((z >>> 32) * bound) >>> 32);
     }
 
-    // Shuffle the deck using Java's Collections library.
+    // Shuffle the cards still in the deck (Fisher-Yates).
     public void shuffleDeck() {
-        Collections.shuffle(cards);
+        for (int i = size - 1; i > 0; i--) {
+            swap(i, nextIndex(i + 1));
+        }
     }
 
-    // Draw a single card from the top (end) of the deck.
+    // Draw a single card from the deck.
     public Card drawCard() {
         if (!isEmpty()) {
-            return cards.remove(cards.size() - 1);
+            MetricsRegistry metrics = MetricsRegistry.active();
+            if (metrics != null) {
+                metrics.recordDraw();
+            }
+            return Card.fromId(drawId());
         }
         return null;
     }
 
+    // Draw a single card id: one step of a partial Fisher-Yates shuffle.
+    // Returns -1 if the deck is empty.
+    public int drawId() {
+        if (size == 0) {
+            return -1;
+        }
+        swap(nextIndex(size), size - 1);
+        size--;
+        return ids[size];
+    }
+
+    // Deal count card ids into out starting at offset. Returns how many were dealt.
+    public int dealIds(int[] out, int offset, int count) {
+        int dealt = Math.min(count, size);
+        for (int i = 0; i < dealt; i++) {
+            out[offset + i] = drawId();
+        }
+        return dealt;
+    }
+
+    // Put back the last count cards that were dealt or removed (they are still stored behind
+    // the live cards). Lets a simulation deal a board, score it, and deal again from the same deck.
+    public void undeal(int count) {
+        size = Math.min(52, size + count);
+    }
+
+    // Take a specific card out of the deck, e.g. one already known to be in a player's hand.
+    // Returns false if it was already dealt.
+    public boolean removeId(int id) {
+        int position = positions[id];
+        if (position >= size) {
+            return false;
+        }
+        swap(position, size - 1);
+        size--;
+        return true;
+    }
+
+    public boolean remove(Card card) {
+        return removeId(card.getId());
+    }
+
+    // Number of cards left to deal
+    public int size() {
+        return size;
+    }
+
     // Check if the deck has no more cards.
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return size == 0;
     }
 
     // Deal a specified number of cards from the deck.
     public ArrayList<Card> dealCards(int number) {
+        MetricsRegistry metrics = MetricsRegistry.active();
+        long start = metrics != null ? System.nanoTime() : 0;
         ArrayList<Card> dealtCards = new ArrayList<>();
         for (int i = 0; i < number; i++) {
             if (!isEmpty()) {
-                dealtCards.add(drawCard());
+                dealtCards.add(Card.fromId(drawId()));
             }
         }
+        if (metrics != null) {
+            metrics.recordDeal(dealtCards.size(), System.nanoTime() - start);
+        }
         return dealtCards;
     }
-}
\ No newline at end of file
+
+    private void swap(int i, int j) {
+        int a = ids[i];
+        int b = ids[j];
+        ids[i] = b;
+        ids[j] = a;
+        positions[b] = i;
+        positions[a] = j;
+    }
+}
@@ -0,0 +1,308 @@
+package com.example.project;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class EquityCalculator {
+    // Samples one task runs before it stops splitting. Kept fixed (not tied to the core count)
+    // so a seed always produces the same split tree and the same answer.
+    private static final int SAMPLES_PER_TASK = 4096;
+
+    private ForkJoinPool pool;
+
+    public EquityCalculator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public EquityCalculator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    // Estimate equity by dealing the rest of the board at random the given number of times.
+    // holeCards has two cards per player; board has 0 to 5 cards.
+    public EquityResult monteCarlo(List<List<Card>> holeCards, List<Card> board, int samples) {
+        return monteCarlo(holeCards, board, samples, System.nanoTime());
+    }
+
+    public EquityResult monteCarlo(List<List<Card>> holeCards, List<Card> board, int samples, long seed) {
+        if (samples <= 0) {
+            throw new IllegalArgumentException("Need at least one sample");
+        }
+        Spot spot = new Spot(holeCards, board);
+        return pool.invoke(new SampleTask(spot, samples, new SplittableRandom(seed))).toResult();
+    }
+
+    // Work out equity exactly by walking every way the rest of the board can come out.
+    // Meant for the flop, turn and river; preflop heads-up is 1.7 million boards.
+    public EquityResult exact(List<List<Card>> holeCards, List<Card> board) {
+        Spot spot = new Spot(holeCards, board);
+        int n = spot.live.length;
+        int k = spot.missing();
+        return pool.invoke(new EnumerateTask(spot, 0, n - k + 1)).toResult();
+    }
+
+    // The known cards of a spot, as card ids, plus the ids still in the deck
+    static class Spot {
+        int[][] hole;
+        int[] board;
+        int[] live;
+
+        Spot(List<List<Card>> holeCards, List<Card> boardCards) {
+            if (holeCards.size() < 2) {
+                throw new IllegalArgumentException("Need at least two players");
+            }
+            if (boardCards.size() > 5) {
+                throw new IllegalArgumentException("A board has at most 5 cards");
+            }
+            long used = 0;
+            hole = new int[holeCards.size()][];
+            for (int p = 0; p < hole.length; p++) {
+                List<Card> cards = holeCards.get(p);
+                if (cards.size() != 2) {
+                    throw new IllegalArgumentException("Player " + (p + 1) + " needs two hole cards");
+                }
+                hole[p] = new int[] {cards.get(0).getId(), cards.get(1).getId()};
+                used = markUsed(used, hole[p]);
+            }
+            board = new int[boardCards.size()];
+            for (int i = 0; i < board.length; i++) {
+                board[i] = boardCards.get(i).getId();
+            }
+            used = markUsed(used, board);
+
+            live = new int[52 - Long.bitCount(used)];
+            int n = 0;
+            for (int id = 0; id < 52; id++) {
+                if ((used & (1L << id)) == 0) {
+                    live[n++] = id;
+                }
+            }
+        }
+
+        private static long markUsed(long used, int[] ids) {
+            for (int id : ids) {
+                if ((used & (1L << id)) != 0) {
+                    throw new IllegalArgumentException("Card dealt twice: " + Card.fromId(id));
+                }
+                used |= 1L << id;
+            }
+            return used;
+        }
+
+        int players() {
+            return hole.length;
+        }
+
+        int missing() {
+            return 5 - board.length;
+        }
+
+        // A deck holding only the live cards
+        Deck newDeck(SplittableRandom random) {
+            Deck deck = new Deck(random);
+            for (int[] cards : hole) {
+                deck.removeId(cards[0]);
+                deck.removeId(cards[1]);
+            }
+            for (int id : board) {
+                deck.removeId(id);
+            }
+            return deck;
+        }
+
+        // One 7-card slot per player with the hole cards and known board filled in
+        int[] newHands() {
+            int[] hands = new int[players() * 7];
+            for (int p = 0; p < players(); p++) {
+                hands[p * 7] = hole[p][0];
+                hands[p * 7 + 1] = hole[p][1];
+                System.arraycopy(board, 0, hands, p * 7 + 2, board.length);
+            }
+            return hands;
+        }
+    }
+
+    // Win, tie and pot-share counts for every player
+    static class Tally {
+        long boards;
+        long[] wins;
+        long[] ties;
+        double[] shares;
+
+        Tally(int players) {
+            wins = new long[players];
+            ties = new long[players];
+            shares = new double[players];
+        }
+
+        // Score one finished board from every player's strength
+        void record(int[] strengths) {
+            int best = -1;
+            int winners = 0;
+            for (int strength : strengths) {
+                if (strength > best) {
+                    best = strength;
+                    winners = 1;
+                } else if (strength == best) {
+                    winners++;
+                }
+            }
+            double share = 1.0 / winners;
+            for (int p = 0; p < strengths.length; p++) {
+                if (strengths[p] == best) {
+                    if (winners == 1) {
+                        wins[p]++;
+                    } else {
+                        ties[p]++;
+                    }
+                    shares[p] += share;
+                }
+            }
+            boards++;
+        }
+
+        Tally merge(Tally other) {
+            boards += other.boards;
+            for (int p = 0; p < wins.length; p++) {
+                wins[p] += other.wins[p];
+                ties[p] += other.ties[p];
+                shares[p] += other.shares[p];
+            }
+            return this;
+        }
+
+        EquityResult toResult() {
+            return new EquityResult(boards, wins, ties, shares);
+        }
+    }
+
+    // Walks the board combinations whose first live card index falls in [firstStart, firstEnd),
+    // splitting that range across forked tasks
+    private static class EnumerateTask extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+
+        private Spot spot;
+        private int firstStart;
+        private int firstEnd;
+
+        EnumerateTask(Spot spot, int firstStart, int firstEnd) {
+            this.spot = spot;
+            this.firstStart = firstStart;
+            this.firstEnd = firstEnd;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (firstEnd - firstStart <= 1 || spot.missing() <= 1) {
+                return enumerate();
+            }
+            int middle = (firstStart + firstEnd) >>> 1;
+            EnumerateTask left = new EnumerateTask(spot, firstStart, middle);
+            left.fork();
+            Tally right = new EnumerateTask(spot, middle, firstEnd).compute();
+            return right.merge(left.join());
+        }
+
+        // Combinations come out in lexicographic order, so consecutive boards usually share
+        // their first cards. states[p][d] holds player p's hand plus the first d missing cards
+        // of the current board; only the levels after the first changed card are rebuilt.
+        private Tally enumerate() {
+            int players = spot.players();
+            int missing = spot.missing();
+            int[] live = spot.live;
+            int[] hands = spot.newHands();
+            IncrementalHand[][] states = new IncrementalHand[players][missing + 1];
+            for (int p = 0; p < players; p++) {
+                for (int d = 0; d <= missing; d++) {
+                    states[p][d] = new IncrementalHand();
+                }
+                for (int i = 0; i < 2 + spot.board.length; i++) {
+                    states[p][0].add(hands[p * 7 + i]);
+                }
+            }
+            int[] previous = new int[missing];
+            Arrays.fill(previous, -1);
+            int[] strengths = new int[players];
+            Tally tally = new Tally(players);
+
+            CombinationIterator boards = new CombinationIterator(live.length, missing, firstStart, firstEnd);
+            while (boards.next()) {
+                int changed = 0;
+                while (changed < missing && boards.get(changed) == previous[changed]) {
+                    changed++;
+                }
+                for (int d = changed; d < missing; d++) {
+                    previous[d] = boards.get(d);
+                    int card = live[previous[d]];
+                    for (int p = 0; p < players; p++) {
+                        states[p][d + 1].copyFrom(states[p][d]);
+                        states[p][d + 1].add(card);
+                    }
+                }
+                for (int p = 0; p < players; p++) {
+                    strengths[p] = states[p][missing].getStrength();
+                }
+                tally.record(strengths);
+            }
+            return tally;
+        }
+    }
+
+    // Runs a share of the sample budget, halving it across forked tasks until it is small.
+    // Every task owns its random generator, split off from its parent before forking.
+    private static class SampleTask extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+
+        private Spot spot;
+        private int samples;
+        private SplittableRandom random;
+
+        SampleTask(Spot spot, int samples, SplittableRandom random) {
+            this.spot = spot;
+            this.samples = samples;
+            this.random = random;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (samples <= SAMPLES_PER_TASK) {
+                return sample();
+            }
+            int half = samples / 2;
+            SampleTask left = new SampleTask(spot, half, random.split());
+            left.fork();
+            Tally right = new SampleTask(spot, samples - half, random).compute();
+            return right.merge(left.join());
+        }
+
+        private Tally sample() {
+            int players = spot.players();
+            int missing = spot.missing();
+            int first = 2 + spot.board.length;
+            Deck deck = spot.newDeck(random);
+            int[] dealt = new int[missing];
+            int[] hands = spot.newHands();
+            int[] strengths = new int[players];
+            Tally tally = new Tally(players);
+
+            for (int s = 0; s < samples; s++) {
+                // Deal the missing board cards, then put them straight back for the next sample
+                deck.dealIds(dealt, 0, missing);
+                deck.undeal(missing);
+                for (int k = 0; k < missing; k++) {
+                    for (int p = 0; p < players; p++) {
+                        hands[p * 7 + first + k] = dealt[k];
+                    }
+                }
+                for (int p = 0; p < players; p++) {
+                    strengths[p] = HandEvaluator.evaluate(hands, p * 7, 7);
+                }
+                tally.record(strengths);
+            }
+            return tally;
+        }
+    }
+}
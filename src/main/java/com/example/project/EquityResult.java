@@ -0,0 +1,49 @@
+package com.example.project;
+
+public class EquityResult {
+    // Number of boards the result was computed over
+    private long boards;
+    // Boards each player won alone
+    private long[] wins;
+    // Boards each player split with at least one other player
+    private long[] ties;
+    // Pot shares each player collected (a two-way split adds 0.5)
+    private double[] shares;
+
+    public EquityResult(long boards, long[] wins, long[] ties, double[] shares) {
+        this.boards = boards;
+        this.wins = wins;
+        this.ties = ties;
+        this.shares = shares;
+    }
+
+    public long getBoards() {return boards;}
+    public int getPlayerCount() {return wins.length;}
+    public long getWins(int player) {return wins[player];}
+    public long getTies(int player) {return ties[player];}
+
+    // Percent of boards the player won outright
+    public double getWinPercent(int player) {
+        return boards == 0 ? 0 : 100.0 * wins[player] / boards;
+    }
+
+    // Percent of boards the player split
+    public double getTiePercent(int player) {
+        return boards == 0 ? 0 : 100.0 * ties[player] / boards;
+    }
+
+    // Percent of the pot the player is expected to collect
+    public double getEquity(int player) {
+        return boards == 0 ? 0 : 100.0 * shares[player] / boards;
+    }
+
+    @Override
+    public String toString() {
+        String result = "";
+        for (int i = 0; i < wins.length; i++) {
+            result += String.format("Player %d: win %.2f%% tie %.2f%% equity %.2f%%%n",
+                    i + 1, getWinPercent(i), getTiePercent(i), getEquity(i));
+        }
+        return result + "(" + boards + " boards)";
+    }
+}
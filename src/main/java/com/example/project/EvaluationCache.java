@@ -0,0 +1,190 @@
+package com.example.project;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// A bounded cache of hand strengths that many threads can share without locks.
+// Hands are keyed by their 52-bit card mask after canonicalizing suits: the strength of a hand
+// does not change if its suits are renamed, so the four per-suit rank masks are sorted and
+// every suit-isomorphic hand lands on the same entry.
+// The table is direct-mapped with a fixed number of slots; a new hand that hashes to a taken
+// slot replaces the old one (counted as an eviction). Each slot is two longs written as
+// (key ^ strength, strength), so a reader that sees half of a concurrent write fails the key
+// check and treats it as a miss instead of returning a wrong strength.
+// An off-heap cache keeps the slots in a direct buffer instead (same opaque reads and writes,
+// through a VarHandle), so a big cache doesn't grow the heap the collector has to scan.
+public class EvaluationCache {
+    // Two longs per slot have to fit in one AtomicLongArray (int length)
+    private static final int MAX_ON_HEAP_ENTRIES = 1 << 29;
+    // Direct buffers are capped at 2GB: 2^26 slots of two longs
+    private static final int MAX_OFF_HEAP_ENTRIES = 1 << 26;
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    // Exactly one of these holds the slots
+    private AtomicLongArray slots;
+    private ByteBuffer directSlots;
+    private int mask;
+
+    private LongAdder hits = new LongAdder();
+    private LongAdder misses = new LongAdder();
+    private LongAdder evictions = new LongAdder();
+    // Hand sets the cache can't key (duplicate cards), evaluated directly
+    private LongAdder bypassed = new LongAdder();
+
+    // maxEntries is rounded up to a power of two
+    public EvaluationCache(int maxEntries) {
+        this(maxEntries, false);
+    }
+
+    public EvaluationCache(int maxEntries, boolean offHeap) {
+        int limit = offHeap ? MAX_OFF_HEAP_ENTRIES : MAX_ON_HEAP_ENTRIES;
+        if (maxEntries < 1 || maxEntries > limit) {
+            throw new IllegalArgumentException("Cache size must be between 1 and " + limit);
+        }
+        int capacity = Integer.highestOneBit(maxEntries);
+        if (capacity < maxEntries) {
+            capacity <<= 1;
+        }
+        if (offHeap) {
+            directSlots = ByteBuffer.allocateDirect(capacity * 16);
+        } else {
+            slots = new AtomicLongArray(capacity * 2);
+        }
+        mask = capacity - 1;
+    }
+
+    // Evaluate count card ids starting at offset, using the cache when it can
+    public int evaluate(int[] cards, int offset, int count) {
+        long cardMask = 0;
+        for (int i = offset; i < offset + count; i++) {
+            cardMask |= 1L << cards[i];
+        }
+        if (Long.bitCount(cardMask) != count) {
+            bypassed.increment();
+            return HandEvaluator.evaluate(cards, offset, count);
+        }
+        long key = canonicalKey(cardMask);
+        int strength = lookup(key);
+        if (strength < 0) {
+            strength = HandEvaluator.evaluate(cards, offset, count);
+            store(key, strength);
+        }
+        return strength;
+    }
+
+    // Evaluate a player's hand together with the community cards, using the cache when it can
+    public int evaluate(List<Card> hand, List<Card> communityCards) {
+        long cardMask = 0;
+        for (Card card : hand) {
+            cardMask |= 1L << card.getId();
+        }
+        for (Card card : communityCards) {
+            cardMask |= 1L << card.getId();
+        }
+        if (Long.bitCount(cardMask) != hand.size() + communityCards.size()) {
+            bypassed.increment();
+            return HandEvaluator.evaluate(hand, communityCards);
+        }
+        long key = canonicalKey(cardMask);
+        int strength = lookup(key);
+        if (strength < 0) {
+            strength = HandEvaluator.evaluate(hand, communityCards);
+            store(key, strength);
+        }
+        return strength;
+    }
+
+    // The same key for every hand that only differs by a renaming of suits
+    public static long canonicalKey(long cardMask) {
+        long a = cardMask & 0x1FFF;
+        long b = (cardMask >>> 13) & 0x1FFF;
+        long c = (cardMask >>> 26) & 0x1FFF;
+        long d = (cardMask >>> 39) & 0x1FFF;
+        // Sort the four suit masks, largest first (a five compare-swap network)
+        long t;
+        if (a < b) { t = a; a = b; b = t; }
+        if (c < d) { t = c; c = d; d = t; }
+        if (a < c) { t = a; a = c; c = t; }
+        if (b < d) { t = b; b = d; d = t; }
+        if (b < c) { t = b; b = c; c = t; }
+        return a << 39 | b << 26 | c << 13 | d;
+    }
+
+    // The cached strength for a key, or -1
+    private int lookup(long key) {
+        int slot = slotOf(key);
+        long check = getSlot(slot);
+        long strength = getSlot(slot + 1);
+        if ((check ^ strength) == key) {
+            hits.increment();
+            return (int) strength;
+        }
+        misses.increment();
+        return -1;
+    }
+
+    private void store(long key, int strength) {
+        int slot = slotOf(key);
+        long oldCheck = getSlot(slot);
+        long oldStrength = getSlot(slot + 1);
+        long oldKey = oldCheck ^ oldStrength;
+        if (oldKey != 0 && oldKey != key) {
+            evictions.increment();
+        }
+        setSlot(slot, key ^ strength);
+        setSlot(slot + 1, strength);
+    }
+
+    private long getSlot(int index) {
+        return slots != null ? slots.getOpaque(index) : (long) LONGS.getOpaque(directSlots, index << 3);
+    }
+
+    private void setSlot(int index, long value) {
+        if (slots != null) {
+            slots.setOpaque(index, value);
+        } else {
+            LONGS.setOpaque(directSlots, index << 3, value);
+        }
+    }
+
+    private int slotOf(long key) {
+        // Mix the key bits (MurmurHash3 finalizer) so nearby hands spread over the table
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return ((int) h & mask) << 1;
+    }
+
+    // Drop every entry (the counters are kept)
+    public void clear() {
+        for (int i = 0; i < 2 * (mask + 1); i++) {
+            setSlot(i, 0);
+        }
+    }
+
+    public int getCapacity() {return mask + 1;}
+    public boolean isOffHeap() {return directSlots != null;}
+    public long getHits() {return hits.sum();}
+    public long getMisses() {return misses.sum();}
+    public long getEvictions() {return evictions.sum();}
+    public long getBypassed() {return bypassed.sum();}
+
+    public double getHitRate() {
+        long lookups = getHits() + getMisses();
+        return lookups == 0 ? 0 : (double) getHits() / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EvaluationCache[capacity=%d%s, hits=%d, misses=%d, evictions=%d, bypassed=%d, hitRate=%.2f%%]",
+                getCapacity(), isOffHeap() ? " off-heap" : "", getHits(), getMisses(), getEvictions(), getBypassed(), 100 * getHitRate());
+    }
+}
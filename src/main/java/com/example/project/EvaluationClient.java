@@ -0,0 +1,259 @@
+package com.example.project;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Blocking client for EvaluationServer, plus a load generator that measures it.
+// send* queues a request without waiting, so callers can pipeline: keep several requests in
+// flight and readResponse() them in the order they were sent. evaluate and showdown are the
+// one-request-at-a-time versions.
+public class EvaluationClient implements AutoCloseable {
+    private SocketChannel channel;
+    private ByteBuffer out = ByteBuffer.allocateDirect(64 << 10);
+    private ByteBuffer in = ByteBuffer.allocateDirect(64 << 10);
+    private int nextId;
+
+    public EvaluationClient(String host, int port) throws IOException {
+        channel = SocketChannel.open(new InetSocketAddress(host, port));
+        channel.socket().setTcpNoDelay(true);
+        // in is kept in read mode: nothing received yet
+        in.limit(0);
+    }
+
+    // Queue an EVALUATE of `hands` 7-card hands laid out back to back in cards; returns its id
+    public int sendEvaluate(int[] cards, int hands) throws IOException {
+        int id = nextId++;
+        int payload = hands * 8;
+        beginRequest(id, EvaluationServer.EVALUATE, hands, payload);
+        for (int h = 0; h < hands; h++) {
+            out.put((byte) 7);
+            for (int c = 0; c < 7; c++) {
+                out.put((byte) cards[h * 7 + c]);
+            }
+        }
+        send();
+        return id;
+    }
+
+    // Queue a SHOWDOWN of `rounds` rounds: boards holds 5 card ids per round, holeCards two per
+    // player per round; returns its id
+    public int sendShowdown(int[] boards, int[] holeCards, int players, int rounds) throws IOException {
+        int id = nextId++;
+        int payload = rounds * (6 + 2 * players);
+        beginRequest(id, EvaluationServer.SHOWDOWN, rounds, payload);
+        for (int r = 0; r < rounds; r++) {
+            out.put((byte) players);
+            for (int c = 0; c < 5; c++) {
+                out.put((byte) boards[r * 5 + c]);
+            }
+            for (int c = 0; c < 2 * players; c++) {
+                out.put((byte) holeCards[r * 2 * players + c]);
+            }
+        }
+        send();
+        return id;
+    }
+
+    private void beginRequest(int id, byte op, int count, int payload) {
+        int frame = 4 + EvaluationServer.HEADER_BYTES + payload;
+        if (out.capacity() < frame) {
+            out = ByteBuffer.allocateDirect(frame);
+        }
+        out.clear();
+        out.putInt(EvaluationServer.HEADER_BYTES + payload);
+        out.putInt(id);
+        out.put(op);
+        out.putInt(count);
+    }
+
+    private void send() throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+    }
+
+    // One response, in the order requests were sent
+    public static class Response {
+        private int id;
+        private byte status;
+        private int[] values;
+
+        public int getId() {return id;}
+        public byte getStatus() {return status;}
+        public boolean isOk() {return status == EvaluationServer.OK;}
+        // Strengths for EVALUATE, winner bits for SHOWDOWN
+        public int[] getValues() {return values;}
+    }
+
+    public Response readResponse() throws IOException {
+        fill(4);
+        int length = in.getInt();
+        fill(length);
+        Response response = new Response();
+        response.id = in.getInt();
+        response.status = in.get();
+        response.values = new int[in.getInt()];
+        for (int i = 0; i < response.values.length; i++) {
+            response.values[i] = in.getInt();
+        }
+        return response;
+    }
+
+    // Make sure the next `bytes` bytes are in `in` (left in read mode)
+    private void fill(int bytes) throws IOException {
+        if (in.remaining() >= bytes) {
+            return;
+        }
+        if (in.capacity() < bytes) {
+            ByteBuffer bigger = ByteBuffer.allocateDirect(bytes);
+            bigger.put(in);
+            in = bigger;
+        } else {
+            in.compact();
+        }
+        while (in.position() < bytes) {
+            if (channel.read(in) < 0) {
+                throw new IOException("Server closed the connection");
+            }
+        }
+        in.flip();
+    }
+
+    // Strength of every 7-card hand in cards
+    public int[] evaluate(int[] cards, int hands) throws IOException {
+        sendEvaluate(cards, hands);
+        return checked(readResponse()).values;
+    }
+
+    // Winner bits (bit p = seat p) for every round
+    public int[] showdown(int[] boards, int[] holeCards, int players, int rounds) throws IOException {
+        sendShowdown(boards, holeCards, players, rounds);
+        return checked(readResponse()).values;
+    }
+
+    private static Response checked(Response response) {
+        if (!response.isOk()) {
+            throw new IllegalArgumentException("Server rejected the request (status " + response.status + ")");
+        }
+        return response;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // What a load test measured
+    public static class Report {
+        private int connections;
+        // Requests each connection kept in flight
+        private int depth;
+        private long requests;
+        private long evaluations;
+        private long elapsedNanos;
+        // Send to response, per request
+        private LatencyHistogram latencyNanos = new LatencyHistogram();
+
+        public int getDepth() {return depth;}
+        public long getRequests() {return requests;}
+        public long getEvaluations() {return evaluations;}
+        public long getElapsedNanos() {return elapsedNanos;}
+        public LatencyHistogram getLatencyNanos() {return latencyNanos;}
+
+        public double getEvaluationsPerSecond() {
+            return evaluations / (elapsedNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d connections (depth %d), %d requests, %d evaluations in %.2f s%n"
+                    + "%.0f evaluations/sec, %.0f requests/sec%n"
+                    + "request latency: p50=%dus p99=%dus p99.9=%dus max=%dus",
+                    connections, depth, requests, evaluations, elapsedNanos / 1e9,
+                    getEvaluationsPerSecond(), requests / (elapsedNanos / 1e9),
+                    latencyNanos.getValueAtPercentile(50) / 1000, latencyNanos.getValueAtPercentile(99) / 1000,
+                    latencyNanos.getValueAtPercentile(99.9) / 1000, latencyNanos.getMax() / 1000);
+        }
+    }
+
+    // Load test: each connection sends `requests` EVALUATE requests of batchSize random 7-card
+    // hands, keeping up to `depth` of them in flight at once. depth is lowered so the answers in
+    // flight stay under half the server's MAX_PENDING_BYTES: past that the server stops reading
+    // while the client is still writing instead of reading, and both block.
+    public static Report loadTest(String host, int port, int connections, int requests, int batchSize, int depth) {
+        if (connections < 1 || requests < 1 || batchSize < 1 || depth < 1) {
+            throw new IllegalArgumentException("Connections, requests, batch size and depth must all be positive");
+        }
+        long responseBytes = 4 + EvaluationServer.HEADER_BYTES + 4L * batchSize;
+        int window = (int) Math.max(1, Math.min(depth, EvaluationServer.MAX_PENDING_BYTES / 2 / responseBytes));
+        Report report = new Report();
+        ExecutorService executor = Executors.newFixedThreadPool(connections);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int c = 0; c < connections; c++) {
+                SplittableRandom random = Deck.roundRandom(start, c);
+                results.add(executor.submit(() -> {
+                    drive(host, port, requests, batchSize, window, random, report);
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Load test interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A load test connection failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        report.elapsedNanos = System.nanoTime() - start;
+        report.connections = connections;
+        report.depth = window;
+        report.requests = (long) connections * requests;
+        report.evaluations = report.requests * batchSize;
+        return report;
+    }
+
+    // One connection's share of a load test
+    private static void drive(String host, int port, int requests, int batchSize, int depth,
+                              SplittableRandom random, Report report) {
+        int[] cards = new int[batchSize * 7];
+        Deck deck = new Deck(random);
+        for (int h = 0; h < batchSize; h++) {
+            deck.reset();
+            deck.dealIds(cards, h * 7, 7);
+        }
+        // Send times of the requests in flight, oldest first (responses come back in order)
+        long[] sent = new long[depth];
+        try (EvaluationClient client = new EvaluationClient(host, port)) {
+            int sendCount = 0;
+            int received = 0;
+            while (received < requests) {
+                while (sendCount < requests && sendCount - received < depth) {
+                    sent[sendCount % depth] = System.nanoTime();
+                    client.sendEvaluate(cards, batchSize);
+                    sendCount++;
+                }
+                checked(client.readResponse());
+                report.latencyNanos.record(System.nanoTime() - sent[received % depth]);
+                received++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
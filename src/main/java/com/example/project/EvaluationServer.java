@@ -0,0 +1,375 @@
+package com.example.project;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Hand evaluation over a socket, for callers that aren't on the JVM.
+// One selector thread serves every connection with non-blocking reads and writes.
+//
+// Protocol (big-endian). Every frame is an int length (bytes after the length field) and then:
+//   request:  int id, byte op, int count, payload
+//   response: int id, byte status, int count, payload
+// Ops:
+//   EVALUATE: count hands, each a byte card count (5..7) and that many card ids (0..51);
+//             answers count int strengths (HandEvaluator order: bigger wins)
+//   SHOWDOWN: count rounds, each a byte player count (2..23), 5 board card ids and then two
+//             hole card ids per player; answers count ints with a bit per winning seat
+// A bad request (unknown op, bad or repeated cards, payload not matching count) is answered
+// with its status and count 0; the connection stays open. Clients may pipeline: send any
+// number of requests without waiting, and responses come back in the same order.
+// If the selector thread itself fails, it logs the error, closes every connection and stops;
+// awaitTermination and getFailure tell the owner, and close() rethrows it.
+public class EvaluationServer implements AutoCloseable {
+    public static final byte EVALUATE = 1;
+    public static final byte SHOWDOWN = 2;
+
+    public static final byte OK = 0;
+    public static final byte BAD_REQUEST = 1;
+    public static final byte UNKNOWN_OP = 2;
+
+    // Frame header after the length: id, op/status, count
+    static final int HEADER_BYTES = 9;
+    // Bigger frames close the connection
+    static final int MAX_FRAME_BYTES = 16 << 20;
+    // Stop reading from a client while this much of its output is still unsent
+    static final int MAX_PENDING_BYTES = 4 << 20;
+
+    private ServerSocketChannel server;
+    private Selector selector;
+    private Thread thread;
+    private volatile boolean running;
+    // Counted down once the selector thread has closed everything
+    private CountDownLatch stopped = new CountDownLatch(1);
+    // What stopped the selector thread, or null
+    private volatile Throwable failure;
+
+    private AtomicLong connections = new AtomicLong();
+    private AtomicLong requests = new AtomicLong();
+    private AtomicLong evaluations = new AtomicLong();
+    private AtomicLong badRequests = new AtomicLong();
+
+    // Per-connection buffers; both stay in write mode between selector wakeups
+    private static class Connection {
+        ByteBuffer in = ByteBuffer.allocateDirect(64 << 10);
+        ByteBuffer out = ByteBuffer.allocateDirect(64 << 10);
+    }
+
+    // Scratch cards for the request being answered (only the selector thread touches these)
+    private int[] hand = new int[7];
+    private int[] round = new int[23 * 7];
+    private int[] strengths = new int[23];
+
+    // Listen on localhost; port 0 picks a free port (see getPort)
+    public EvaluationServer(int port) throws IOException {
+        selector = Selector.open();
+        server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress("127.0.0.1", port));
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    // Serve on a background thread until close()
+    public EvaluationServer start() {
+        running = true;
+        thread = new Thread(this::serve, "evaluation-server");
+        thread.setDaemon(true);
+        thread.start();
+        return this;
+    }
+
+    public int getPort() {
+        return server.socket().getLocalPort();
+    }
+
+    private void serve() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        if (!key.isValid()) {
+                            continue;
+                        }
+                        if (key.isAcceptable()) {
+                            accept();
+                            continue;
+                        }
+                        if (key.isReadable()) {
+                            read(key);
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            flush(key);
+                        }
+                    } catch (IOException e) {
+                        // The client went away mid-request; drop just this connection
+                        closeConnection(key);
+                    }
+                }
+            }
+        } catch (Throwable t) {
+            if (running) {
+                failure = t;
+                System.err.println("Evaluation server on port " + getPort() + " stopped: " + t);
+            }
+        } finally {
+            running = false;
+            closeChannels();
+            stopped.countDown();
+        }
+    }
+
+    // Close every client, the listening socket and the selector
+    private void closeChannels() {
+        try {
+            for (SelectionKey key : selector.keys()) {
+                closeConnection(key);
+            }
+            selector.close();
+        } catch (IOException | RuntimeException e) {
+            // Shutting down anyway
+        }
+        try {
+            server.close();
+        } catch (IOException e) {
+            // Already gone
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = server.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        channel.register(selector, SelectionKey.OP_READ, new Connection());
+        connections.incrementAndGet();
+    }
+
+    private void read(SelectionKey key) throws IOException {
+        Connection connection = (Connection) key.attachment();
+        SocketChannel channel = (SocketChannel) key.channel();
+        if (channel.read(connection.in) < 0) {
+            closeConnection(key);
+            return;
+        }
+        ByteBuffer in = connection.in;
+        in.flip();
+        // Answer every complete frame that has arrived, in order
+        while (in.remaining() >= 4) {
+            int length = in.getInt(in.position());
+            if (length < HEADER_BYTES || length > MAX_FRAME_BYTES) {
+                closeConnection(key);
+                return;
+            }
+            if (in.remaining() < 4 + length) {
+                break;
+            }
+            int end = in.position() + 4 + length;
+            in.position(in.position() + 4);
+            answer(in, end, connection);
+            in.position(end);
+        }
+        in.compact();
+        // Make room for a frame bigger than the buffer
+        if (in.position() >= 4) {
+            int needed = 4 + in.getInt(0);
+            if (needed > in.capacity()) {
+                connection.in = grow(in, needed);
+            }
+        }
+        flush(key);
+    }
+
+    // Answer one request; in is positioned after the length field and the frame ends at end
+    private void answer(ByteBuffer in, int end, Connection connection) {
+        requests.incrementAndGet();
+        int id = in.getInt();
+        byte op = in.get();
+        int count = in.getInt();
+        int size = end - in.position();
+        if (op != EVALUATE && op != SHOWDOWN) {
+            writeHeader(connection, id, UNKNOWN_OP, 0);
+            badRequests.incrementAndGet();
+            return;
+        }
+        // Every hand is at least 6 bytes and every round at least 10, so this bounds the output
+        if (count < 0 || count > size / 6) {
+            writeHeader(connection, id, BAD_REQUEST, 0);
+            badRequests.incrementAndGet();
+            return;
+        }
+        ByteBuffer out = reserve(connection, 4 + HEADER_BYTES + 4 * count);
+        int start = out.position();
+        writeHeader(connection, id, OK, count);
+        boolean ok = op == EVALUATE ? evaluate(in, end, count, out) : showdown(in, end, count, out);
+        if (!ok || in.position() != end) {
+            out.position(start);
+            writeHeader(connection, id, BAD_REQUEST, 0);
+            badRequests.incrementAndGet();
+        }
+    }
+
+    private boolean evaluate(ByteBuffer in, int end, int count, ByteBuffer out) {
+        for (int h = 0; h < count; h++) {
+            if (in.position() >= end) {
+                return false;
+            }
+            int cards = in.get();
+            if (cards < 5 || cards > 7 || !readCards(in, end, hand, 0, cards, 0L)) {
+                return false;
+            }
+            out.putInt(HandEvaluator.evaluate(hand, 0, cards));
+        }
+        evaluations.addAndGet(count);
+        return true;
+    }
+
+    private boolean showdown(ByteBuffer in, int end, int count, ByteBuffer out) {
+        int[] board = hand;
+        for (int r = 0; r < count; r++) {
+            if (in.position() >= end) {
+                return false;
+            }
+            int players = in.get();
+            if (players < 2 || players > 23 || !readCards(in, end, board, 0, 5, 0L)) {
+                return false;
+            }
+            long seen = 0;
+            for (int c = 0; c < 5; c++) {
+                seen |= 1L << board[c];
+            }
+            for (int p = 0; p < players; p++) {
+                if (!readCards(in, end, round, p * 7, 2, seen)) {
+                    return false;
+                }
+                seen |= 1L << round[p * 7] | 1L << round[p * 7 + 1];
+                System.arraycopy(board, 0, round, p * 7 + 2, 5);
+            }
+            out.putInt(Game.winnerMask(round, players, strengths));
+            evaluations.addAndGet(players);
+        }
+        return true;
+    }
+
+    // Read count card ids into cards[offset..]; false if they run past end, aren't card ids,
+    // repeat each other or are already in seen
+    private static boolean readCards(ByteBuffer in, int end, int[] cards, int offset, int count, long seen) {
+        if (end - in.position() < count) {
+            return false;
+        }
+        for (int c = 0; c < count; c++) {
+            int id = in.get();
+            if (id < 0 || id >= 52 || (seen & (1L << id)) != 0) {
+                return false;
+            }
+            seen |= 1L << id;
+            cards[offset + c] = id;
+        }
+        return true;
+    }
+
+    private void writeHeader(Connection connection, int id, byte status, int count) {
+        ByteBuffer out = reserve(connection, 4 + HEADER_BYTES);
+        out.putInt(HEADER_BYTES + 4 * count);
+        out.putInt(id);
+        out.put(status);
+        out.putInt(count);
+    }
+
+    // The output buffer with room for at least bytes more
+    private static ByteBuffer reserve(Connection connection, int bytes) {
+        if (connection.out.remaining() < bytes) {
+            connection.out = grow(connection.out, connection.out.position() + bytes);
+        }
+        return connection.out;
+    }
+
+    // A bigger direct buffer holding the same (write mode) contents
+    private static ByteBuffer grow(ByteBuffer buffer, int needed) {
+        ByteBuffer bigger = ByteBuffer.allocateDirect(Math.max(needed, buffer.capacity() * 2));
+        buffer.flip();
+        bigger.put(buffer);
+        return bigger;
+    }
+
+    // Send what the socket will take now; wait for OP_WRITE for the rest, and stop reading
+    // while too much is still queued for a slow client
+    private void flush(SelectionKey key) throws IOException {
+        Connection connection = (Connection) key.attachment();
+        ByteBuffer out = connection.out;
+        out.flip();
+        ((SocketChannel) key.channel()).write(out);
+        out.compact();
+        int pending = out.position();
+        int ops = pending == 0 ? SelectionKey.OP_READ
+                : pending > MAX_PENDING_BYTES ? SelectionKey.OP_WRITE
+                : SelectionKey.OP_READ | SelectionKey.OP_WRITE;
+        key.interestOps(ops);
+    }
+
+    private void closeConnection(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            // Already gone
+        }
+    }
+
+    public long getConnections() {return connections.get();}
+    public long getRequests() {return requests.get();}
+    public long getEvaluations() {return evaluations.get();}
+    public long getBadRequests() {return badRequests.get();}
+    // Why the selector thread stopped on its own, or null
+    public Throwable getFailure() {return failure;}
+
+    // Wait for the selector thread to stop, after close() or a failure; false on timeout
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return thread == null || stopped.await(timeout, unit);
+    }
+
+    // Stop serving and close every connection. Throws if the selector thread had failed.
+    @Override
+    public void close() {
+        running = false;
+        if (thread == null) {
+            closeChannels();
+        } else {
+            selector.wakeup();
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    stopped.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Evaluation server failed", failure);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EvaluationServer[port=%d, connections=%d, requests=%d, evaluations=%d, badRequests=%d]",
+                getPort(), getConnections(), getRequests(), getEvaluations(), getBadRequests());
+    }
+}
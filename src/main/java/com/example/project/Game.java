@@ -1,142 +1,181 @@
 package com.example.project;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class Game {
+    // Optional shared cache of hand strengths used by showdowns (null means evaluate every time)
+    private static volatile EvaluationCache evaluationCache;
+
+    // Optional stream that hears about every round played through playRound (null means none)
+    private static volatile HandEventStream eventStream;
+    // Index of the next round play(int) deals; every other round is numbered by its caller
+    private static final AtomicLong nextRound = new AtomicLong();
+
+    // Route every showdown through the given cache, or pass null to turn caching off.
+    public static void setEvaluationCache(EvaluationCache cache) {
+        evaluationCache = cache;
+    }
+
+    public static EvaluationCache getEvaluationCache() {
+        return evaluationCache;
+    }
+
+    // Publish every round played from now on to the given stream, or pass null to stop.
+    public static void setEventStream(HandEventStream stream) {
+        eventStream = stream;
+    }
+
+    public static HandEventStream getEventStream() {
+        return eventStream;
+    }
 
     // Figure out who wins between two players based on their hands.
+    // The hand labels are only for display: each player's cards are ranked once, and the
+    // ranked hands carry the category plus the kickers that decide ties.
     public static String determineWinner(Player p1, Player p2, String p1Hand, String p2Hand, ArrayList<Card> communityCards) {
-        // List of hand rankings, best to worst.
-        String[] handRanks = {
-            "Royal Flush", "Straight Flush", "Four of a Kind", "Full House", "Flush",
-            "Straight", "Three of a Kind", "Two Pair", "A Pair", "High Card"
-        };
-
-        // Get each player's hand rank index.
-        int p1Rank = getHandRankIndex(p1Hand, handRanks);
-        int p2Rank = getHandRankIndex(p2Hand, handRanks);
-
-        // Lower index means a better hand.
-        if (p1Rank < p2Rank) {
-            return "Player 1 wins!";
-        } else if (p1Rank > p2Rank) {
-            return "Player 2 wins!";
-        } else {
-            // Tie-breaking logic inlined.
-            ArrayList<Card> p1Cards = p1.getAllCards();
-            ArrayList<Card> p2Cards = p2.getAllCards();
-
-            // sort algorithm
-            sortCards(p1Cards);
-            sortCards(p2Cards);
-
-            // Compare cards from highest to lowest.
-            for (int i = p1Cards.size() - 1; i >= 0; i--) {
-                int p1CardRank = getRankIndex(p1Cards.get(i).getRank());
-                int p2CardRank = getRankIndex(p2Cards.get(i).getRank());
-
-                if (p1CardRank > p2CardRank) {
-                    return "Player 1 wins!";
-                } else if (p1CardRank < p2CardRank) {
-                    return "Player 2 wins!";
-                }
-            }
-            // If every card is the same, it's a tie.
-            return "Tie!";
-        }
+        return showdown(Arrays.asList(p1, p2), communityCards).getMessage();
     }
 
-    // Returns the position of the hand in the ranking list.
-    private static int getHandRankIndex(String hand, String[] handRanks) {
-        for (int i = 0; i < handRanks.length; i++) {
-            // Check if the hand description starts with the ranking.
-            if (hand.startsWith(handRanks[i])) {
-                return i;
+    // Rank every player's hand once and collect everyone holding the best one.
+    // Works for any table size; more than one winner means a split pot.
+    public static ShowdownResult showdown(List<Player> players, List<Card> communityCards) {
+        MetricsRegistry metrics = MetricsRegistry.active();
+        long start = metrics != null ? System.nanoTime() : 0;
+        EvaluationCache cache = evaluationCache;
+        RankedHand[] hands = new RankedHand[players.size()];
+        int[] winners = new int[players.size()];
+        int winnerCount = 0;
+        int best = -1;
+
+        for (int i = 0; i < players.size(); i++) {
+            List<Card> hand = players.get(i).getHand();
+            int strength = cache != null ? cache.evaluate(hand, communityCards) : HandEvaluator.evaluate(hand, communityCards);
+            hands[i] = new RankedHand(strength);
+            if (strength > best) {
+                // New best hand, it takes the pot alone so far.
+                best = strength;
+                winnerCount = 0;
+                winners[winnerCount++] = i;
+            } else if (strength == best) {
+                winners[winnerCount++] = i;
             }
         }
-        // Default to worst if nothing matches.
-        return handRanks.length;
+        if (metrics != null) {
+            metrics.recordShowdown(winnerCount, System.nanoTime() - start);
+        }
+        return new ShowdownResult(hands, Arrays.copyOf(winners, winnerCount));
     }
 
-    // Get the index of a card rank from the utility's list.
-    private static int getRankIndex(String rank) {
-        String[] ranks = Utility.getRanks();
-        for (int i = 0; i < ranks.length; i++) {
-            if (ranks[i].equals(rank)) {
-                return i;
+    // The same showdown over card ids, without Player objects: hands holds each player's seven
+    // cards (hole cards and board) back to back. Each seat's strength goes into strengths;
+    // returns one bit per winning seat.
+    static int winnerMask(int[] hands, int players, int[] strengths) {
+        EvaluationCache cache = evaluationCache;
+        int winners = 0;
+        int best = -1;
+        for (int i = 0; i < players; i++) {
+            int strength = cache != null ? cache.evaluate(hands, i * 7, 7) : HandEvaluator.evaluate(hands, i * 7, 7);
+            strengths[i] = strength;
+            if (strength > best) {
+                best = strength;
+                winners = 1 << i;
+            } else if (strength == best) {
+                winners |= 1 << i;
             }
         }
-        // Shouldn't get here if the rank is legit.
-        return -1;
+        return winners;
     }
 
     // Main play function: deals cards, evaluates hands, and prints the result.
     public static void play() {
-        // Build and shuffle the deck.
-        ArrayList<Card> deck = createDeck();
-        Collections.shuffle(deck); // Using shuffle is allowed.
+        play(2);
+    }
 
-        // Create two players.
-        Player p1 = new Player();
-        Player p2 = new Player();
+    // Play one round with the given number of players and print it.
+    public static void play(int numPlayers) {
+        print(playRound(new Deck(), numPlayers, nextRound.getAndIncrement()));
+    }
 
-        // Give each player two cards.
-        for (int i = 0; i < 2; i++) {
-            p1.addCard(deck.remove(0));
-            p2.addCard(deck.remove(0));
+    // Deal round `round` of a seeded run again and print it
+    public static void play(int numPlayers, long seed, long round) {
+        print(playRound(numPlayers, seed, round));
+    }
+
+    private static void print(RoundResult round) {
+        int numPlayers = round.getPlayers().size();
+        ArrayList<Player> players = round.getPlayers();
+
+        // Print out all the cards and best hands.
+        for (int i = 0; i < numPlayers; i++) {
+            System.out.println("Player " + (i + 1) + " Hand: " + players.get(i).getHand());
+        }
+        System.out.println("Community Cards: " + round.getCommunityCards());
+        for (int i = 0; i < numPlayers; i++) {
+            System.out.println("Player " + (i + 1) + " Best Hand: " + round.getBestHands()[i]);
         }
 
-        // Deal out five community cards.
-        ArrayList<Card> communityCards = new ArrayList<>();
-        for (int i = 0; i < 5; i++) {
-            communityCards.add(deck.remove(0));
+        // Print who wins.
+        System.out.println(round.getShowdown().getMessage());
+    }
+
+    // Deal, evaluate and settle one round from the given deck without printing anything.
+    // The deck is reset first, so the same deck can be reused round after round.
+    // Rounds are always numbered by the caller: round is the index the HandEvent carries, as in
+    // the seeded version below and in Simulation.
+    public static RoundResult playRound(Deck deck, int numPlayers, long round) {
+        checkPlayers(numPlayers);
+        deck.reset();
+        return publish(round, dealRound(deck, numPlayers));
+    }
+
+    // Play round `round` of a seeded run: the cards only depend on (seed, round), and are the
+    // same ones Simulation deals for that round with that seed.
+    public static RoundResult playRound(int numPlayers, long seed, long round) {
+        checkPlayers(numPlayers);
+        Deck deck = new Deck();
+        deck.reset(seed, round);
+        return publish(round, dealRound(deck, numPlayers));
+    }
+
+    private static void checkPlayers(int numPlayers) {
+        if (numPlayers < 2 || numPlayers * 2 + 5 > 52) {
+            throw new IllegalArgumentException("Can't deal a round to " + numPlayers + " players");
         }
+    }
 
-        // Figure out the best hand each player can make.
-        String p1Hand = p1.playHand(communityCards);
-        String p2Hand = p2.playHand(communityCards);
+    private static RoundResult dealRound(Deck deck, int numPlayers) {
+        // Create the players.
+        ArrayList<Player> players = new ArrayList<>();
+        for (int i = 0; i < numPlayers; i++) {
+            players.add(new Player());
+        }
 
-        // Print out all the cards and best hands.
-        System.out.println("Player 1 Hand: " + p1.getHand());
-        System.out.println("Player 2 Hand: " + p2.getHand());
-        System.out.println("Community Cards: " + communityCards);
-        System.out.println("Player 1 Best Hand: " + p1Hand);
-        System.out.println("Player 2 Best Hand: " + p2Hand);
-
-        // Decide and print who wins.
-        System.out.println(determineWinner(p1, p2, p1Hand, p2Hand, communityCards));
-    }
-
-    // Creates a standard 52-card deck.
-    private static ArrayList<Card> createDeck() {
-        ArrayList<Card> deck = new ArrayList<>();
-        String[] suits = Utility.getSuits();
-        String[] ranks = Utility.getRanks();
-
-        // Make a card for every suit and rank.
-        for (int i = 0; i < suits.length; i++) {
-            for (int j = 0; j < ranks.length; j++) {
-                deck.add(new Card(ranks[j], suits[i]));
+        // Give each player two cards.
+        for (int i = 0; i < 2; i++) {
+            for (Player player : players) {
+                player.addCard(deck.drawCard());
             }
         }
-        return deck;
-    }
-
-    // sort cards by their rank.
-    private static void sortCards(ArrayList<Card> cards) {
-        int n = cards.size();
-        for (int i = 0; i < n - 1; i++) {
-            for (int j = 0; j < n - i - 1; j++) {
-                int rank1 = getRankIndex(cards.get(j).getRank());
-                int rank2 = getRankIndex(cards.get(j + 1).getRank());
-                if (rank1 > rank2) {
-                    // Swap cards at positions j and j+1.
-                    Card temp = cards.get(j);
-                    cards.set(j, cards.get(j + 1));
-                    cards.set(j + 1, temp);
-                }
-            }
+
+        // Deal out five community cards.
+        ArrayList<Card> communityCards = deck.dealCards(5);
+
+        // Figure out the best hand each player can make, then who wins.
+        String[] bestHands = new String[numPlayers];
+        for (int i = 0; i < numPlayers; i++) {
+            bestHands[i] = players.get(i).playHand(communityCards);
+        }
+        return new RoundResult(players, communityCards, bestHands, showdown(players, communityCards));
+    }
+
+    private static RoundResult publish(long round, RoundResult result) {
+        HandEventStream stream = eventStream;
+        if (stream != null) {
+            stream.publish(HandEvent.of(round, result));
         }
+        return result;
     }
 }
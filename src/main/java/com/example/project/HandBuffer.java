@@ -0,0 +1,69 @@
+package com.example.project;
+
+import java.nio.ByteBuffer;
+
+// A flat batch of 7-card hands for BatchEvaluator, one byte per card id, so a hand costs
+// 7 bytes instead of 28 in an int[] (or a list of Card objects).
+// A direct buffer keeps the cards off the Java heap: a corpus of hundreds of millions of hands
+// adds nothing for the garbage collector to trace or copy. Only absolute reads and writes are
+// used, so any number of threads can read one buffer (or its readOnly() view) at once.
+public class HandBuffer {
+    public static final int CARDS_PER_HAND = BatchEvaluator.CARDS_PER_HAND;
+
+    private ByteBuffer cards;
+    private int hands;
+
+    private HandBuffer(ByteBuffer cards, int hands) {
+        this.cards = cards;
+        this.hands = hands;
+    }
+
+    // Room for `hands` hands, off the heap when direct is true
+    public static HandBuffer allocate(int hands, boolean direct) {
+        if (hands < 0 || hands > Integer.MAX_VALUE / CARDS_PER_HAND) {
+            throw new IllegalArgumentException("Can't hold " + hands + " hands in one buffer");
+        }
+        int bytes = hands * CARDS_PER_HAND;
+        return new HandBuffer(direct ? ByteBuffer.allocateDirect(bytes) : ByteBuffer.allocate(bytes), hands);
+    }
+
+    // Wrap card ids already laid out 7 per hand, e.g. a memory-mapped corpus file. Hands run
+    // from the buffer's position up to its limit; the buffer's own position isn't moved.
+    public static HandBuffer wrap(ByteBuffer cards) {
+        return new HandBuffer(cards.slice(), cards.remaining() / CARDS_PER_HAND);
+    }
+
+    // Fill hands [start, start + count) with fresh deals: each hand is 7 cards off a full deck
+    public void deal(Deck deck, int start, int count) {
+        int[] hand = new int[CARDS_PER_HAND];
+        for (int h = start; h < start + count; h++) {
+            deck.reset();
+            deck.dealIds(hand, 0, CARDS_PER_HAND);
+            setHand(h, hand);
+        }
+    }
+
+    public void deal(Deck deck) {
+        deal(deck, 0, hands);
+    }
+
+    public void setHand(int hand, int[] ids) {
+        int index = hand * CARDS_PER_HAND;
+        for (int c = 0; c < CARDS_PER_HAND; c++) {
+            cards.put(index + c, (byte) ids[c]);
+        }
+    }
+
+    public int getCardId(int hand, int card) {
+        return cards.get(hand * CARDS_PER_HAND + card);
+    }
+
+    // A view of the same memory that can't be written, for handing to other threads
+    public HandBuffer readOnly() {
+        return new HandBuffer(cards.asReadOnlyBuffer(), hands);
+    }
+
+    public int size() {return hands;}
+    public boolean isDirect() {return cards.isDirect();}
+    ByteBuffer getBuffer() {return cards;}
+}
@@ -0,0 +1,164 @@
+package com.example.project;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Counts how often each hand comes up over every k-card set of the 52 cards (k = 5, 6 or 7),
+// tallied by Utility.getHandRanking number with every card counted as the player's own
+// (so "Nothing" never comes up and ranking 2 is every high-card hand).
+// The sweep is split over the first two card indexes of each combination: one fork-join leaf
+// per pair, each with its own counters, merged as the tasks join. Inside a leaf the remaining
+// cards are walked in nested order with one IncrementalHand per depth, so every combination
+// only adds its last card to the state of its prefix.
+public class HandCensus {
+    // Known counts by Utility.getHandRanking number (index 2 = High Card .. 11 = Royal Flush)
+    static final long[] FIVE_CARD_COUNTS = {
+        0, 0, 1302540, 1098240, 123552, 54912, 10200, 5108, 3744, 624, 36, 4
+    };
+    static final long[] SEVEN_CARD_COUNTS = {
+        0, 0, 23294460, 58627800, 31433400, 6461620, 6180020, 4047644, 3473184, 224848, 37260, 4324
+    };
+
+    private int cards;
+    private long[] counts;
+    private long elapsedNanos;
+
+    private HandCensus(int cards, long[] counts, long elapsedNanos) {
+        this.cards = cards;
+        this.counts = counts;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public static HandCensus run(int cards) {
+        return run(cards, ForkJoinPool.commonPool());
+    }
+
+    public static HandCensus run(int cards, ForkJoinPool pool) {
+        if (cards < 5 || cards > 7) {
+            throw new IllegalArgumentException("A census covers 5, 6 or 7 card hands");
+        }
+        long start = System.nanoTime();
+        long[] counts = pool.invoke(new SweepTask(cards, 0, 52 * 52));
+        return new HandCensus(cards, counts, System.nanoTime() - start);
+    }
+
+    public int getCards() {return cards;}
+    public long getElapsedNanos() {return elapsedNanos;}
+
+    // Hands with the given Utility.getHandRanking number (2 = High Card .. 11 = Royal Flush)
+    public long getCount(int ranking) {
+        return counts[ranking];
+    }
+
+    public long getTotal() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    public double getHandsPerSecond() {
+        return getTotal() / (elapsedNanos / 1e9);
+    }
+
+    // True when every count matches the published census (only known for 5 and 7 cards)
+    public boolean matchesKnownCounts() {
+        long[] known = cards == 5 ? FIVE_CARD_COUNTS : cards == 7 ? SEVEN_CARD_COUNTS : null;
+        if (known == null) {
+            return false;
+        }
+        for (int ranking = 0; ranking < known.length; ranking++) {
+            if (known[ranking] != counts[ranking]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(String.format("%d-card census: %,d hands in %.2f s (%.1fM hands/sec)%n",
+                cards, getTotal(), elapsedNanos / 1e9, getHandsPerSecond() / 1e6));
+        for (int ranking = 11; ranking >= 2; ranking--) {
+            text.append(String.format("%-16s %,12d%n", Utility.getHandLabel(ranking), counts[ranking]));
+        }
+        if (cards == 5 || cards == 7) {
+            text.append(matchesKnownCounts() ? "Matches the known counts" : "DOES NOT match the known counts");
+        }
+        return text.toString();
+    }
+
+    // Covers the (first, second) card index pairs encoded as first * 52 + second in [from, to)
+    private static class SweepTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+
+        private int cards;
+        private int from;
+        private int to;
+
+        SweepTask(int cards, int from, int to) {
+            this.cards = cards;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= 52) {
+                return sweep();
+            }
+            int middle = (from + to) >>> 1;
+            SweepTask left = new SweepTask(cards, from, middle);
+            left.fork();
+            long[] right = new SweepTask(cards, middle, to).compute();
+            long[] other = left.join();
+            for (int i = 0; i < right.length; i++) {
+                right[i] += other[i];
+            }
+            return right;
+        }
+
+        private long[] sweep() {
+            long[] counts = new long[12];
+            IncrementalHand[] states = new IncrementalHand[cards + 1];
+            for (int d = 0; d <= cards; d++) {
+                states[d] = new IncrementalHand();
+            }
+            for (int pair = from; pair < to; pair++) {
+                int first = pair / 52;
+                int second = pair % 52;
+                // Only increasing pairs that leave room for the other cards
+                if (second <= first || second > 52 - (cards - 1)) {
+                    continue;
+                }
+                states[1].clear();
+                states[1].add(first);
+                states[2].copyFrom(states[1]);
+                states[2].add(second);
+                walk(states, 2, second + 1, counts);
+            }
+            return counts;
+        }
+
+        // Add every card from `next` up at this depth, going deeper until the hand is complete
+        private void walk(IncrementalHand[] states, int depth, int next, long[] counts) {
+            IncrementalHand prefix = states[depth];
+            IncrementalHand hand = states[depth + 1];
+            int last = 52 - (cards - depth - 1);
+            if (depth + 1 == cards) {
+                for (int id = next; id < last; id++) {
+                    hand.copyFrom(prefix);
+                    hand.add(id);
+                    counts[HandEvaluator.getHandRanking(hand.getStrength(), 0x1FFF)]++;
+                }
+                return;
+            }
+            for (int id = next; id < last; id++) {
+                hand.copyFrom(prefix);
+                hand.add(id);
+                walk(states, depth + 1, id + 1, counts);
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.project;
+
+import java.util.List;
+
+public class HandEvaluator {
+    // Hand categories from worst to best. A strength keeps the category above five kicker nibbles,
+    // so comparing two strengths as plain ints compares the hands.
+    public static final int HIGH_CARD = 0;
+    public static final int PAIR = 1;
+    public static final int TWO_PAIR = 2;
+    public static final int THREE_OF_A_KIND = 3;
+    public static final int STRAIGHT = 4;
+    public static final int FLUSH = 5;
+    public static final int FULL_HOUSE = 6;
+    public static final int FOUR_OF_A_KIND = 7;
+    public static final int STRAIGHT_FLUSH = 8;
+
+    private static final int ACE = 12;
+
+    // For every 13-bit rank mask: rank index of the top card of the best straight, or -1
+    private static final byte[] STRAIGHT_HIGH = new byte[1 << 13];
+    // For every 13-bit rank mask: the five highest ranks packed as nibbles, highest first
+    private static final int[] TOP_FIVE = new int[1 << 13];
+    // Rank bit and suit index for every card id
+    static final int[] RANK_BIT = new int[52];
+    static final int[] SUIT = new int[52];
+
+    static {
+        for (int mask = 0; mask < (1 << 13); mask++) {
+            STRAIGHT_HIGH[mask] = (byte) findStraightHigh(mask);
+            int packed = 0;
+            int left = mask;
+            for (int i = 0; i < 5; i++) {
+                int rank = left == 0 ? 0 : topRank(left);
+                packed = (packed << 4) | rank;
+                left &= ~(1 << rank);
+            }
+            TOP_FIVE[mask] = packed;
+        }
+        for (int id = 0; id < 52; id++) {
+            RANK_BIT[id] = 1 << Card.rankOf(id);
+            SUIT[id] = Card.suitOf(id);
+        }
+    }
+
+    // Evaluate count card ids starting at offset and return the hand strength
+    public static int evaluate(int[] cards, int offset, int count) {
+        int m1 = 0, m2 = 0, m3 = 0, m4 = 0;
+        int suitCounts = 0;
+        long suitRanks = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int id = cards[i];
+            int bit = RANK_BIT[id];
+            int suit = SUIT[id];
+            // m1..m4 hold the ranks seen at least once, twice, three and four times
+            m4 |= m3 & bit;
+            m3 |= m2 & bit;
+            m2 |= m1 & bit;
+            m1 |= bit;
+            suitCounts += 1 << (suit << 3);
+            suitRanks |= (long) bit << (suit << 4);
+        }
+        return strength(m1, m2, m3, m4, suitCounts, suitRanks);
+    }
+
+    public static int evaluate(int[] cards) {
+        return evaluate(cards, 0, cards.length);
+    }
+
+    public static int evaluate(List<Card> cards) {
+        return evaluate(cards, null);
+    }
+
+    // Evaluate a player's hand together with the community cards without building a combined list
+    public static int evaluate(List<Card> hand, List<Card> communityCards) {
+        int m1 = 0, m2 = 0, m3 = 0, m4 = 0;
+        int suitCounts = 0;
+        long suitRanks = 0;
+        int total = hand.size() + (communityCards == null ? 0 : communityCards.size());
+        for (int i = 0; i < total; i++) {
+            int id = i < hand.size() ? hand.get(i).getId() : communityCards.get(i - hand.size()).getId();
+            int bit = RANK_BIT[id];
+            int suit = SUIT[id];
+            m4 |= m3 & bit;
+            m3 |= m2 & bit;
+            m2 |= m1 & bit;
+            m1 |= bit;
+            suitCounts += 1 << (suit << 3);
+            suitRanks |= (long) bit << (suit << 4);
+        }
+        return strength(m1, m2, m3, m4, suitCounts, suitRanks);
+    }
+
+    // Turn rank multiplicity masks and suit tallies into a strength
+    static int strength(int m1, int m2, int m3, int m4, int suitCounts, long suitRanks) {
+        int flushSuit = SuitCounts.flushSuit(suitCounts);
+        int flushRanks = flushSuit == -1 ? 0 : (int) (suitRanks >>> (flushSuit << 4)) & 0x1FFF;
+        if (flushRanks != 0) {
+            int high = STRAIGHT_HIGH[flushRanks];
+            if (high >= 0) {
+                return make(STRAIGHT_FLUSH, high << 16);
+            }
+        }
+        if (m4 != 0) {
+            int quad = topRank(m4);
+            return make(FOUR_OF_A_KIND, quad << 16 | kickers(m1 & ~(1 << quad), 1) << 12);
+        }
+        if (m3 != 0) {
+            int trips = topRank(m3);
+            int pairs = m2 & ~(1 << trips);
+            if (pairs != 0) {
+                return make(FULL_HOUSE, trips << 16 | topRank(pairs) << 12);
+            }
+        }
+        if (flushRanks != 0) {
+            return make(FLUSH, TOP_FIVE[flushRanks]);
+        }
+        int high = STRAIGHT_HIGH[m1];
+        if (high >= 0) {
+            return make(STRAIGHT, high << 16);
+        }
+        if (m3 != 0) {
+            int trips = topRank(m3);
+            return make(THREE_OF_A_KIND, trips << 16 | kickers(m1 & ~(1 << trips), 2) << 8);
+        }
+        if (m2 != 0) {
+            int pair = topRank(m2);
+            int second = m2 & ~(1 << pair);
+            if (second != 0) {
+                int low = topRank(second);
+                int rest = m1 & ~(1 << pair) & ~(1 << low);
+                return make(TWO_PAIR, pair << 16 | low << 12 | kickers(rest, 1) << 8);
+            }
+            return make(PAIR, pair << 16 | kickers(m1 & ~(1 << pair), 3) << 4);
+        }
+        return make(HIGH_CARD, TOP_FIVE[m1]);
+    }
+
+    // The category of a strength (HIGH_CARD .. STRAIGHT_FLUSH)
+    public static int getCategory(int strength) {
+        return strength >>> 20;
+    }
+
+    // Rank index of the i-th kicker nibble, 0 being the most significant
+    public static int getKicker(int strength, int i) {
+        return (strength >>> (16 - 4 * i)) & 0xF;
+    }
+
+    // The Player.playHand label for a strength, with a straight flush to the ace named a royal flush
+    public static String getLabel(int strength) {
+        return Utility.getHandLabel(getHandRanking(strength, 0x1FFF));
+    }
+
+    // Same as getLabel, but a high card hand is only "High Card" when the top rank is one of the
+    // player's own ranks (holeRanks is a mask of 1 << rank index); otherwise it is "Nothing"
+    public static String getLabel(int strength, int holeRanks) {
+        return Utility.getHandLabel(getHandRanking(strength, holeRanks));
+    }
+
+    // The Utility.getHandRanking number (1 = Nothing .. 11 = Royal Flush) for a strength
+    public static int getHandRanking(int strength, int holeRanks) {
+        int category = getCategory(strength);
+        if (category == STRAIGHT_FLUSH && getKicker(strength, 0) == ACE) {
+            return 11;
+        }
+        if (category == HIGH_CARD && (holeRanks & (1 << getKicker(strength, 0))) == 0) {
+            return 1;
+        }
+        return category + 2;
+    }
+
+    private static int make(int category, int kickers) {
+        return category << 20 | kickers;
+    }
+
+    // The n highest ranks in mask as nibbles, highest first
+    private static int kickers(int mask, int n) {
+        return TOP_FIVE[mask] >>> (4 * (5 - n));
+    }
+
+    private static int topRank(int mask) {
+        return 31 - Integer.numberOfLeadingZeros(mask);
+    }
+
+    private static int findStraightHigh(int mask) {
+        for (int high = ACE; high >= 4; high--) {
+            int run = 0x1F << (high - 4);
+            if ((mask & run) == run) {
+                return high;
+            }
+        }
+        // The wheel: A-2-3-4-5 counts as a five-high straight
+        int wheel = (1 << ACE) | 0xF;
+        if ((mask & wheel) == wheel) {
+            return 3;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.project;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// What happened in one played round: every player's hole cards, the board, the hand each
+// player made (as a Utility.getHandRanking number and as a HandEvaluator strength) and who
+// took the pot.
+// Cards are kept as ids so building an event on a simulation thread stays cheap.
+public class HandEvent {
+    private long round;
+    // Two card ids per player, in seat order
+    private int[] holeCards;
+    private int[] board;
+    private int[] handRankings;
+    private int[] strengths;
+    // Bit i is set when seat i shares the pot
+    private long winners;
+
+    public HandEvent(long round, int[] holeCards, int[] board, int[] handRankings, int[] strengths, long winners) {
+        this.round = round;
+        this.holeCards = holeCards;
+        this.board = board;
+        this.handRankings = handRankings;
+        this.strengths = strengths;
+        this.winners = winners;
+    }
+
+    // Build an event from a round played by Game.playRound
+    public static HandEvent of(long round, RoundResult result) {
+        List<Player> players = result.getPlayers();
+        int[] holeCards = new int[players.size() * 2];
+        int[] handRankings = new int[players.size()];
+        int[] strengths = new int[players.size()];
+        long winners = 0;
+        for (int p = 0; p < players.size(); p++) {
+            holeCards[p * 2] = players.get(p).getHand().get(0).getId();
+            holeCards[p * 2 + 1] = players.get(p).getHand().get(1).getId();
+            handRankings[p] = Utility.getHandRanking(result.getBestHands()[p]);
+            strengths[p] = result.getShowdown().getHand(p).getStrength();
+        }
+        for (int seat : result.getShowdown().getWinners()) {
+            winners |= 1L << seat;
+        }
+        int[] board = new int[result.getCommunityCards().size()];
+        for (int i = 0; i < board.length; i++) {
+            board[i] = result.getCommunityCards().get(i).getId();
+        }
+        return new HandEvent(round, holeCards, board, handRankings, strengths, winners);
+    }
+
+    public long getRound() {return round;}
+    public int getPlayerCount() {return handRankings.length;}
+    public int getHandRanking(int seat) {return handRankings[seat];}
+    public String getLabel(int seat) {return Utility.getHandLabel(handRankings[seat]);}
+    public int getStrength(int seat) {return strengths[seat];}
+    public long getWinners() {return winners;}
+
+    public boolean isWinner(int seat) {
+        return (winners & (1L << seat)) != 0;
+    }
+
+    public boolean isSplit() {
+        return Long.bitCount(winners) > 1;
+    }
+
+    public int getHoleCardId(int seat, int i) {
+        return holeCards[seat * 2 + i];
+    }
+
+    public int getBoardSize() {
+        return board.length;
+    }
+
+    public int getBoardCardId(int i) {
+        return board[i];
+    }
+
+    public List<Card> getHoleCards(int seat) {
+        List<Card> cards = new ArrayList<>();
+        cards.add(Card.fromId(holeCards[seat * 2]));
+        cards.add(Card.fromId(holeCards[seat * 2 + 1]));
+        return cards;
+    }
+
+    public List<Card> getBoard() {
+        List<Card> cards = new ArrayList<>();
+        for (int id : board) {
+            cards.add(Card.fromId(id));
+        }
+        return cards;
+    }
+
+    @Override
+    public String toString() {
+        String text = "Round " + round + ": board " + getBoard();
+        for (int p = 0; p < getPlayerCount(); p++) {
+            text += ", Player " + (p + 1) + " " + getHoleCards(p) + " " + getLabel(p) + (isWinner(p) ? " (wins)" : "");
+        }
+        return text;
+    }
+}
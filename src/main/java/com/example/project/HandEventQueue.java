@@ -0,0 +1,113 @@
+package com.example.project;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// A bounded ring buffer that any number of threads can offer to and one thread drains,
+// without locks. Every slot carries a sequence number: a producer claims the next position
+// with a compare-and-set on the tail, writes its event, then publishes the slot by bumping the
+// sequence; the consumer only reads a slot once its sequence says it was published.
+// offer() never waits: when the ring is full the event is dropped and counted.
+// claim() leaves waiting and retrying up to the caller.
+public class HandEventQueue {
+    private AtomicReferenceArray<HandEvent> events;
+    private AtomicLongArray sequences;
+    private int mask;
+    private AtomicLong tail = new AtomicLong();
+    // Only touched by the consumer thread
+    private long head;
+    private AtomicLong dropped = new AtomicLong();
+
+    // capacity is rounded up to a power of two
+    public HandEventQueue(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Queue size must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        events = new AtomicReferenceArray<>(size);
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        mask = size - 1;
+    }
+
+    // Add an event; returns false (and counts a drop) if the queue is full
+    public boolean offer(HandEvent event) {
+        return offerAt(event) >= 0;
+    }
+
+    // offer() that returns the position the event took, or -1 if it was dropped
+    long offerAt(HandEvent event) {
+        long position = claim(event);
+        if (position < 0) {
+            dropped.incrementAndGet();
+        }
+        return position;
+    }
+
+    // Put the event in the next free slot and return its position, or -1 (not counted as a
+    // drop) if the queue is full, so a caller that would rather wait can try again
+    long claim(HandEvent event) {
+        while (true) {
+            long position = tail.get();
+            int slot = (int) position & mask;
+            long sequence = sequences.getAcquire(slot);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    events.setPlain(slot, event);
+                    sequences.setRelease(slot, position + 1);
+                    return position;
+                }
+            } else if (sequence < position) {
+                // The slot from the previous lap hasn't been drained yet
+                return -1;
+            }
+            // Another producer took this position first; try the next one
+        }
+    }
+
+    // Consumer only: the next event, or null if none is ready
+    public HandEvent poll() {
+        int slot = (int) head & mask;
+        if (sequences.getAcquire(slot) != head + 1) {
+            return null;
+        }
+        HandEvent event = events.getPlain(slot);
+        events.setPlain(slot, null);
+        sequences.setRelease(slot, head + mask + 1);
+        head++;
+        return event;
+    }
+
+    // Consumer only: move up to max ready events into out, returning how many were moved
+    public int drainTo(List<HandEvent> out, int max) {
+        int n = 0;
+        HandEvent event;
+        while (n < max && (event = poll()) != null) {
+            out.add(event);
+            n++;
+        }
+        return n;
+    }
+
+    // Consumer only: true once every claimed position has been drained. Unlike poll() returning
+    // null, this stays false while a producer has claimed a slot but not yet published it.
+    public boolean isEmpty() {
+        return tail.get() == head;
+    }
+
+    // Consumer only: every position before this one has been drained
+    long getDrained() {return head;}
+
+    public int getCapacity() {return mask + 1;}
+    public long getDropped() {return dropped.get();}
+
+    // Events offered so far that were not dropped
+    public long getAccepted() {return tail.get();}
+}
@@ -0,0 +1,16 @@
+package com.example.project;
+
+import java.util.List;
+
+// Receives round events from a HandEventStream. Events arrive in batches on the stream's
+// consumer thread, never on the thread that played the round, so a slow sink only makes the
+// queue fill up (and drop events, unless the stream blocks when full) instead of slowing the
+// game down.
+public interface HandEventSink {
+    // The list is reused for the next batch; copy anything that has to be kept
+    void accept(List<HandEvent> events);
+
+    // Called once after the last batch when the stream is closed
+    default void close() {
+    }
+}
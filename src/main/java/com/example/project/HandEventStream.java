@@ -0,0 +1,185 @@
+package com.example.project;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// Carries round events from the threads playing rounds to any number of sinks.
+// publish() only puts the event on a bounded HandEventQueue and, unless the stream is set to
+// block when full, never waits; one daemon thread drains the queue in batches and hands every
+// batch to each sink in turn.
+// A sink that throws (even an Error) is counted and skipped for that batch; the others still
+// get it and the consumer keeps running. Closing works the same way: a sink whose close()
+// throws is counted and the rest are still closed.
+// publish() touches nothing shared besides the queue: close() flips the running flag and the
+// consumer drains until the queue is empty. A publish() that was already past its check when
+// the flag flipped is still delivered by close(), or reports itself dropped if it got into the
+// queue after the sinks were closed.
+public class HandEventStream implements AutoCloseable {
+    // How long the consumer sleeps when it finds the queue empty
+    private static final long IDLE_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private HandEventQueue queue;
+    private int batchSize;
+    private List<HandEventSink> sinks = new CopyOnWriteArrayList<>();
+    private AtomicLong delivered = new AtomicLong();
+    private AtomicLong sinkErrors = new AtomicLong();
+    private Thread consumer;
+    private volatile boolean running = true;
+    // Make publish() wait for room instead of dropping when the queue is full
+    private volatile boolean blockWhenFull;
+    // Queue position up to which close() delivered before closing the sinks (-1 while open)
+    private long closedAt = -1;
+    // Events lost to close(): offered after the sinks were closed, or still waiting for room
+    private AtomicLong lateDrops = new AtomicLong();
+    // The ones among them that did take a queue position
+    private AtomicLong lateQueued = new AtomicLong();
+
+    public HandEventStream(int capacity, int batchSize, HandEventSink... sinks) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.queue = new HandEventQueue(capacity);
+        this.batchSize = batchSize;
+        this.sinks.addAll(Arrays.asList(sinks));
+        consumer = new Thread(this::consume, "hand-event-stream");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    public HandEventStream(HandEventSink... sinks) {
+        this(1 << 16, 1024, sinks);
+    }
+
+    public void addSink(HandEventSink sink) {
+        sinks.add(sink);
+    }
+
+    // With blocking on, publish() waits while the queue is full, so a slow sink slows the
+    // producers down instead of losing events. Meant for sinks that need every event, like a
+    // HandHistoryWriter; a stream feeding only statistics is better off dropping.
+    public HandEventStream setBlockWhenFull(boolean block) {
+        blockWhenFull = block;
+        return this;
+    }
+
+    // Queue an event for the sinks. Returns false if the queue was full and the event dropped
+    // (or, when blocking, if the stream was closed while waiting for room).
+    public boolean publish(HandEvent event) {
+        if (!running) {
+            return false;
+        }
+        long position = blockWhenFull ? claimWaiting(event) : queue.offerAt(event);
+        if (position < 0) {
+            return false;
+        }
+        // close() may have started since the check above; then this event only counts if it
+        // got in before close() finished draining
+        return running || deliveredOnClose(position);
+    }
+
+    private long claimWaiting(HandEvent event) {
+        long position;
+        while ((position = queue.claim(event)) < 0) {
+            if (!running) {
+                lateDrops.incrementAndGet();
+                return -1;
+            }
+            LockSupport.parkNanos(IDLE_NANOS);
+        }
+        return position;
+    }
+
+    private synchronized boolean deliveredOnClose(long position) {
+        if (closedAt < 0 || position < closedAt) {
+            return true;
+        }
+        lateDrops.incrementAndGet();
+        lateQueued.incrementAndGet();
+        return false;
+    }
+
+    private void consume() {
+        List<HandEvent> batch = new ArrayList<>(batchSize);
+        while (true) {
+            // Read the flag before draining, so events published before close() are all seen
+            boolean stopping = !running;
+            if (queue.drainTo(batch, batchSize) > 0) {
+                deliver(batch);
+                batch.clear();
+            } else if (stopping && queue.isEmpty()) {
+                return;
+            } else if (stopping) {
+                // A producer claimed a slot but hasn't published it yet
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(IDLE_NANOS);
+            }
+        }
+    }
+
+    private void deliver(List<HandEvent> batch) {
+        for (HandEventSink sink : sinks) {
+            try {
+                sink.accept(batch);
+            } catch (Throwable e) {
+                sinkErrors.incrementAndGet();
+            }
+        }
+        delivered.addAndGet(batch.size());
+    }
+
+    // Stop taking events, hand every queued event to the sinks, then close the sinks
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(consumer);
+        // The consumer drains until the queue is empty, so this doesn't wait on the sinks for long
+        boolean interrupted = false;
+        while (consumer.isAlive()) {
+            try {
+                consumer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            // Events from publish() calls that passed their running check just before it flipped
+            List<HandEvent> rest = new ArrayList<>(batchSize);
+            while (!queue.isEmpty()) {
+                if (queue.drainTo(rest, batchSize) > 0) {
+                    deliver(rest);
+                    rest.clear();
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+            closedAt = queue.getDrained();
+            for (HandEventSink sink : sinks) {
+                try {
+                    sink.close();
+                } catch (Throwable e) {
+                    sinkErrors.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    public long getPublished() {return queue.getAccepted() - lateQueued.get();}
+    public long getDelivered() {return delivered.get();}
+    public long getDropped() {return queue.getDropped() + lateDrops.get();}
+    public long getSinkErrors() {return sinkErrors.get();}
+
+    @Override
+    public String toString() {
+        return "HandEventStream[published=" + getPublished() + ", delivered=" + getDelivered()
+                + ", dropped=" + getDropped() + ", sinkErrors=" + getSinkErrors() + "]";
+    }
+}
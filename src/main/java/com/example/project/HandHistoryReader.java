@@ -0,0 +1,152 @@
+package com.example.project;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.LongStream;
+
+// Reads a log written by HandHistoryWriter. Every segment is memory-mapped read-only and
+// records are read in place by index, so looking at a record creates no objects.
+// replay() re-runs the showdown of every record in parallel from the logged cards.
+public class HandHistoryReader {
+    // Records one replay task works through
+    private static final int RECORDS_PER_TASK = 1 << 16;
+
+    private MappedByteBuffer[] segments;
+    private int players;
+    private int recordBytes;
+    private long recordsPerSegment;
+    private long size;
+
+    public HandHistoryReader(Path directory) throws IOException {
+        List<MappedByteBuffer> maps = new ArrayList<>();
+        for (int segment = 0; Files.exists(HandHistoryWriter.segmentPath(directory, segment)); segment++) {
+            Path file = HandHistoryWriter.segmentPath(directory, segment);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (map.limit() < HandHistoryWriter.HEADER_BYTES || map.getInt(0) != HandHistoryWriter.MAGIC
+                        || map.getInt(4) != HandHistoryWriter.VERSION) {
+                    throw new IOException("Not a hand-history segment: " + file);
+                }
+                if (segment == 0) {
+                    players = map.getInt(8);
+                    recordBytes = HandHistoryWriter.recordBytes(players);
+                    recordsPerSegment = map.getInt(12);
+                } else if (map.getInt(8) != players || map.getInt(12) != recordsPerSegment) {
+                    throw new IOException("Segment doesn't match the rest of the log: " + file);
+                }
+                long records = (map.limit() - HandHistoryWriter.HEADER_BYTES) / recordBytes;
+                // Only the last segment may be short
+                if (!maps.isEmpty() && records > 0 && size != maps.size() * recordsPerSegment) {
+                    throw new IOException("Segment " + (segment - 1) + " is incomplete");
+                }
+                maps.add(map);
+                size += records;
+            }
+        }
+        if (maps.isEmpty()) {
+            throw new IOException("No hand-history segments in " + directory);
+        }
+        segments = maps.toArray(new MappedByteBuffer[0]);
+    }
+
+    public long size() {return size;}
+    public int getPlayerCount() {return players;}
+
+    public long getRound(long record) {
+        return segments[segmentOf(record)].getLong(offsetOf(record));
+    }
+
+    public int getHoleCard(long record, int seat, int i) {
+        return segments[segmentOf(record)].get(offsetOf(record) + 8 + seat * 2 + i);
+    }
+
+    public int getBoardCard(long record, int i) {
+        return segments[segmentOf(record)].get(offsetOf(record) + 8 + players * 2 + i);
+    }
+
+    public int getStrength(long record, int seat) {
+        MappedByteBuffer map = segments[segmentOf(record)];
+        int at = offsetOf(record) + 13 + players * 2 + seat * 3;
+        return (map.get(at) & 0xFF) << 16 | (map.get(at + 1) & 0xFF) << 8 | (map.get(at + 2) & 0xFF);
+    }
+
+    public long getWinners(long record) {
+        return segments[segmentOf(record)].getInt(offsetOf(record) + 13 + players * 5) & 0xFFFFFFFFL;
+    }
+
+    private int segmentOf(long record) {
+        return (int) (record / recordsPerSegment);
+    }
+
+    private int offsetOf(long record) {
+        return HandHistoryWriter.HEADER_BYTES + (int) (record % recordsPerSegment) * recordBytes;
+    }
+
+    // The outcome of a replay: statistics recomputed from the logged cards, plus how many
+    // records disagreed with what was logged (strengths or winners)
+    public static class Replay {
+        private SimulationStats stats;
+        private long mismatches;
+
+        Replay(SimulationStats stats, long mismatches) {
+            this.stats = stats;
+            this.mismatches = mismatches;
+        }
+
+        public SimulationStats getStats() {return stats;}
+        public long getMismatches() {return mismatches;}
+    }
+
+    public Replay replay() {
+        return replay(ForkJoinPool.commonPool());
+    }
+
+    // Re-evaluate every record's hands from its cards and settle the showdown again through
+    // Game.winnerMask, in parallel on the pool. Scratch arrays are per task, so the per-record
+    // work allocates nothing.
+    public Replay replay(ForkJoinPool pool) {
+        LongAdder mismatches = new LongAdder();
+        long tasks = (size + RECORDS_PER_TASK - 1) / RECORDS_PER_TASK;
+        SimulationStats stats = pool.submit(() -> LongStream.range(0, tasks).parallel()
+                .mapToObj(task -> replayRange(task * RECORDS_PER_TASK,
+                        Math.min(size, (task + 1) * RECORDS_PER_TASK), mismatches))
+                .reduce(SimulationStats::merge)).join().orElseGet(() -> new SimulationStats(players));
+        return new Replay(stats, mismatches.sum());
+    }
+
+    private SimulationStats replayRange(long from, long to, LongAdder mismatches) {
+        SimulationStats stats = new SimulationStats(players);
+        int[] hands = new int[players * 7];
+        int[] strengths = new int[players];
+        int[] holeRanks = new int[players];
+        long wrong = 0;
+        for (long record = from; record < to; record++) {
+            for (int p = 0; p < players; p++) {
+                hands[p * 7] = getHoleCard(record, p, 0);
+                hands[p * 7 + 1] = getHoleCard(record, p, 1);
+                for (int i = 0; i < 5; i++) {
+                    hands[p * 7 + 2 + i] = getBoardCard(record, i);
+                }
+                holeRanks[p] = (1 << Card.rankOf(hands[p * 7])) | (1 << Card.rankOf(hands[p * 7 + 1]));
+            }
+            boolean matches = Game.winnerMask(hands, players, strengths) == getWinners(record);
+            for (int p = 0; p < players; p++) {
+                matches &= strengths[p] == getStrength(record, p);
+            }
+            if (!matches) {
+                wrong++;
+            }
+            stats.record(strengths, holeRanks);
+        }
+        mismatches.add(wrong);
+        return stats;
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.project;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Writes rounds to a hand-history log: a directory of segment files hands-000000.log,
+// hands-000001.log, ... each holding up to recordsPerSegment fixed-width records.
+//
+// Segment layout (big-endian):
+//   int magic "HHLG", int version, int players, int records per segment, then records of
+//   long round, 2 bytes of hole card ids per player, 5 bytes of board card ids,
+//   3 bytes of strength per player (a strength fits in 24 bits), int winners (bit per seat).
+// That is 17 + 5 * players bytes a round (27 heads-up).
+//
+// Records are packed into a direct buffer and written to the channel when it fills.
+// One thread writes at a time; as a HandEventSink it is driven by the stream's consumer thread.
+public class HandHistoryWriter implements HandEventSink, AutoCloseable {
+    static final int MAGIC = 0x48484C47; // "HHLG"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private Path directory;
+    private int players;
+    private int recordBytes;
+    private long recordsPerSegment;
+    private ByteBuffer buffer;
+    private FileChannel channel;
+    private int segment;
+    private long recordsInSegment;
+    private long written;
+
+    // Start a new log in directory. If it already holds one, overwrite must be true to replace
+    // it (its segments are deleted so a reader doesn't mix them in); otherwise this throws
+    // FileAlreadyExistsException and leaves the old log alone.
+    public HandHistoryWriter(Path directory, int players, long recordsPerSegment, boolean overwrite) throws IOException {
+        if (players < 2 || players > 23) {
+            throw new IllegalArgumentException("Can't log rounds of " + players + " players");
+        }
+        this.recordBytes = recordBytes(players);
+        // Each segment must fit in one memory map
+        if (recordsPerSegment < 1 || HEADER_BYTES + recordsPerSegment * recordBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Records per segment must be between 1 and "
+                    + (Integer.MAX_VALUE - HEADER_BYTES) / recordBytes);
+        }
+        this.directory = directory;
+        this.players = players;
+        this.recordsPerSegment = recordsPerSegment;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_BYTES - BUFFER_BYTES % recordBytes);
+        Files.createDirectories(directory);
+        if (!overwrite && Files.exists(segmentPath(directory, 0))) {
+            throw new FileAlreadyExistsException(directory.toString(), null, "already holds a hand-history log");
+        }
+        for (int old = 0; Files.deleteIfExists(segmentPath(directory, old)); old++) {
+        }
+    }
+
+    public HandHistoryWriter(Path directory, int players, long recordsPerSegment) throws IOException {
+        this(directory, players, recordsPerSegment, false);
+    }
+
+    public HandHistoryWriter(Path directory, int players, boolean overwrite) throws IOException {
+        this(directory, players, (Integer.MAX_VALUE - HEADER_BYTES) / recordBytes(players), overwrite);
+    }
+
+    public HandHistoryWriter(Path directory, int players) throws IOException {
+        this(directory, players, false);
+    }
+
+    static int recordBytes(int players) {
+        return 17 + 5 * players;
+    }
+
+    static Path segmentPath(Path directory, int segment) {
+        return directory.resolve(String.format("hands-%06d.log", segment));
+    }
+
+    // Append one round. holeCards has two ids per seat, board five ids,
+    // strengths one per seat; winners has bit i set for every seat sharing the pot.
+    public void write(long round, int[] holeCards, int[] board, int[] strengths, long winners) throws IOException {
+        beginRecord();
+        buffer.putLong(round);
+        for (int i = 0; i < players * 2; i++) {
+            buffer.put((byte) holeCards[i]);
+        }
+        for (int i = 0; i < 5; i++) {
+            buffer.put((byte) board[i]);
+        }
+        for (int p = 0; p < players; p++) {
+            putStrength(strengths[p]);
+        }
+        buffer.putInt((int) winners);
+        recordsInSegment++;
+        written++;
+    }
+
+    public void write(HandEvent event) throws IOException {
+        if (event.getPlayerCount() != players || event.getBoardSize() != 5) {
+            throw new IllegalArgumentException("Round " + event.getRound() + " doesn't fit a " + players + "-player log");
+        }
+        beginRecord();
+        buffer.putLong(event.getRound());
+        for (int p = 0; p < players; p++) {
+            buffer.put((byte) event.getHoleCardId(p, 0));
+            buffer.put((byte) event.getHoleCardId(p, 1));
+        }
+        for (int i = 0; i < 5; i++) {
+            buffer.put((byte) event.getBoardCardId(i));
+        }
+        for (int p = 0; p < players; p++) {
+            putStrength(event.getStrength(p));
+        }
+        buffer.putInt((int) event.getWinners());
+        recordsInSegment++;
+        written++;
+    }
+
+    // HandEventSink: log every event in the batch
+    @Override
+    public void accept(List<HandEvent> events) {
+        try {
+            for (HandEvent event : events) {
+                write(event);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getRecordsWritten() {
+        return written;
+    }
+
+    // Write out everything buffered so far
+    public void flush() throws IOException {
+        if (channel != null) {
+            flushBuffer();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (channel != null) {
+                flushBuffer();
+                channel.close();
+                channel = null;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Make room for one more record, starting a new segment if this one is full
+    private void beginRecord() throws IOException {
+        if (channel == null || recordsInSegment == recordsPerSegment) {
+            nextSegment();
+        }
+        if (buffer.remaining() < recordBytes) {
+            flushBuffer();
+        }
+    }
+
+    private void putStrength(int strength) {
+        buffer.put((byte) (strength >>> 16));
+        buffer.put((byte) (strength >>> 8));
+        buffer.put((byte) strength);
+    }
+
+    private void nextSegment() throws IOException {
+        if (channel != null) {
+            flushBuffer();
+            channel.close();
+            segment++;
+        }
+        channel = FileChannel.open(segmentPath(directory, segment), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        recordsInSegment = 0;
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(players);
+        buffer.putInt((int) recordsPerSegment);
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
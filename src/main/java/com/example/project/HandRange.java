@@ -0,0 +1,228 @@
+package com.example.project;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// A weighted set of two-card combos, parsed from range notation such as
+// "QQ+, AKs, 76s-54s, ATo+, A5s-A2s, KQ, AsKs, JJ:0.5".
+//   QQ        one pair            QQ+   QQ and better        QQ-99  QQ down to 99
+//   AKs/AKo   suited / offsuit    AK    both                 ATs+   ATs up to AKs
+//   76s-54s   connectors in a run (both ranks step down)     A5s-A2s  kicker run
+//   AsKs      one exact combo (suits s h c d, or ♠ ♥ ♣ ♦)     :w     weight 0..1 (default 1)
+// Ranks are the Utility.getRanks() names, with T also accepted for 10.
+// Each combo is kept once, keyed by its two-card bitmask; a repeat takes the later weight.
+public class HandRange {
+    private static final String SUIT_LETTERS = "shcd";
+
+    // Combo bitmasks (1L << id for both cards) and their weights, in parse order
+    private long[] masks;
+    private double[] weights;
+
+    private HandRange(long[] masks, double[] weights) {
+        this.masks = masks;
+        this.weights = weights;
+    }
+
+    public static HandRange parse(String text) {
+        Map<Long, Double> combos = new LinkedHashMap<>();
+        for (String part : text.split(",")) {
+            String token = part.trim();
+            if (token.isEmpty()) {
+                continue;
+            }
+            double weight = 1.0;
+            int colon = token.indexOf(':');
+            if (colon >= 0) {
+                weight = Double.parseDouble(token.substring(colon + 1).trim());
+                token = token.substring(0, colon).trim();
+                if (weight < 0 || weight > 1) {
+                    throw new IllegalArgumentException("Weight must be between 0 and 1: " + part);
+                }
+            }
+            if (!addExactCombo(combos, token, weight)) {
+                addClasses(combos, token, weight);
+            }
+        }
+        long[] masks = new long[combos.size()];
+        double[] weights = new double[combos.size()];
+        int n = 0;
+        for (Map.Entry<Long, Double> entry : combos.entrySet()) {
+            masks[n] = entry.getKey();
+            weights[n] = entry.getValue();
+            n++;
+        }
+        return new HandRange(masks, weights);
+    }
+
+    // The same range minus every combo that uses one of the known cards
+    public HandRange without(List<Card> knownCards) {
+        long dead = 0;
+        for (Card card : knownCards) {
+            dead |= 1L << card.getId();
+        }
+        return without(dead);
+    }
+
+    public HandRange without(long deadCards) {
+        int keep = 0;
+        for (long mask : masks) {
+            if ((mask & deadCards) == 0) {
+                keep++;
+            }
+        }
+        long[] newMasks = new long[keep];
+        double[] newWeights = new double[keep];
+        int n = 0;
+        for (int i = 0; i < masks.length; i++) {
+            if ((masks[i] & deadCards) == 0) {
+                newMasks[n] = masks[i];
+                newWeights[n] = weights[i];
+                n++;
+            }
+        }
+        return new HandRange(newMasks, newWeights);
+    }
+
+    public int size() {return masks.length;}
+    public long getMask(int i) {return masks[i];}
+    public double getWeight(int i) {return weights[i];}
+
+    // The two card ids of combo i
+    public int getCard1(int i) {return Long.numberOfTrailingZeros(masks[i]);}
+    public int getCard2(int i) {return 63 - Long.numberOfLeadingZeros(masks[i]);}
+
+    // Sum of all combo weights
+    public double getTotalWeight() {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        return total;
+    }
+
+    // "AsKs" style combos (2-character ranks like 10 also work)
+    private static boolean addExactCombo(Map<Long, Double> combos, String token, double weight) {
+        int[] first = parseCard(token, 0);
+        if (first == null) {
+            return false;
+        }
+        int[] second = parseCard(token, first[1]);
+        if (second == null || second[1] != token.length()) {
+            return false;
+        }
+        if (first[0] == second[0]) {
+            throw new IllegalArgumentException("Same card twice: " + token);
+        }
+        combos.put((1L << first[0]) | (1L << second[0]), weight);
+        return true;
+    }
+
+    // Parse rank + suit at position; returns {card id, next position} or null
+    private static int[] parseCard(String token, int at) {
+        for (int length = 2; length >= 1; length--) {
+            if (at + length + 1 > token.length()) {
+                continue;
+            }
+            int rank = StartingHand.rankIndex(token.substring(at, at + length));
+            if (rank < 0) {
+                continue;
+            }
+            char suitChar = token.charAt(at + length);
+            int suit = SUIT_LETTERS.indexOf(suitChar);
+            if (suit < 0) {
+                suit = Utility.getSuitIndex(String.valueOf(suitChar));
+            }
+            if (suit >= 0) {
+                return new int[] {Card.idOf(rank, suit), at + length + 1};
+            }
+        }
+        return null;
+    }
+
+    // Class notation: single classes, "+" and "-" runs
+    private static void addClasses(Map<Long, Double> combos, String token, double weight) {
+        int dash = token.indexOf('-');
+        if (dash >= 0) {
+            int[] top = parseClass(token.substring(0, dash).trim(), token);
+            int[] bottom = parseClass(token.substring(dash + 1).trim(), token);
+            if (top[2] != bottom[2]) {
+                throw new IllegalArgumentException("Both ends of a run must be the same kind: " + token);
+            }
+            if (top[0] == top[1] && bottom[0] == bottom[1]) {
+                // Pairs: QQ-99
+                for (int r = Math.min(top[0], bottom[0]); r <= Math.max(top[0], bottom[0]); r++) {
+                    addClass(combos, r, r, top[2], weight);
+                }
+            } else if (top[0] == bottom[0]) {
+                // Same high card, kicker run: A5s-A2s
+                for (int low = Math.min(top[1], bottom[1]); low <= Math.max(top[1], bottom[1]); low++) {
+                    addClass(combos, top[0], low, top[2], weight);
+                }
+            } else if (top[0] - top[1] == bottom[0] - bottom[1]) {
+                // Same gap, both ranks step: 76s-54s
+                int gap = top[0] - top[1];
+                for (int high = Math.min(top[0], bottom[0]); high <= Math.max(top[0], bottom[0]); high++) {
+                    addClass(combos, high, high - gap, top[2], weight);
+                }
+            } else {
+                throw new IllegalArgumentException("Can't make a run from " + token);
+            }
+            return;
+        }
+
+        boolean plus = token.endsWith("+");
+        int[] hand = parseClass(plus ? token.substring(0, token.length() - 1) : token, token);
+        if (!plus) {
+            addClass(combos, hand[0], hand[1], hand[2], weight);
+        } else if (hand[0] == hand[1]) {
+            // QQ+: this pair and every higher pair
+            for (int r = hand[0]; r < 13; r++) {
+                addClass(combos, r, r, hand[2], weight);
+            }
+        } else {
+            // ATs+: raise the kicker up to just below the high card
+            for (int low = hand[1]; low < hand[0]; low++) {
+                addClass(combos, hand[0], low, hand[2], weight);
+            }
+        }
+    }
+
+    // Returns {high rank, low rank, kind} where kind is 0 pair, 1 suited, 2 offsuit, 3 either
+    private static int[] parseClass(String text, String token) {
+        int kind = 3;
+        char last = text.isEmpty() ? ' ' : Character.toLowerCase(text.charAt(text.length() - 1));
+        if (last == 's' || last == 'o') {
+            kind = last == 's' ? 1 : 2;
+            text = text.substring(0, text.length() - 1);
+        }
+        int split = text.startsWith("10") ? 2 : 1;
+        if (text.length() <= split) {
+            throw new IllegalArgumentException("Can't read hand range: " + token);
+        }
+        int a = StartingHand.rankIndex(text.substring(0, split));
+        int b = StartingHand.rankIndex(text.substring(split));
+        if (a < 0 || b < 0) {
+            throw new IllegalArgumentException("Can't read hand range: " + token);
+        }
+        if (a == b) {
+            if (kind != 3) {
+                throw new IllegalArgumentException("A pair can't be suited or offsuit: " + token);
+            }
+            kind = 0;
+        }
+        return new int[] {Math.max(a, b), Math.min(a, b), kind};
+    }
+
+    private static void addClass(Map<Long, Double> combos, int high, int low, int kind, double weight) {
+        if (kind == 3) {
+            addClass(combos, high, low, 1, weight);
+            addClass(combos, high, low, 2, weight);
+            return;
+        }
+        int[] cards = StartingHand.combos(StartingHand.index(high, low, kind == 1));
+        for (int k = 0; k < cards.length; k += 2) {
+            combos.put((1L << cards[k]) | (1L << cards[k + 1]), weight);
+        }
+    }
+}
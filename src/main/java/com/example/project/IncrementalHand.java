@@ -0,0 +1,90 @@
+package com.example.project;
+
+import java.util.List;
+
+// Hand evaluation state that grows one card at a time, for street-by-street work: add the hole
+// cards, then the flop, and ask for the strength; adding the turn only folds one card into the
+// rank and suit tallies instead of going over all six again. copyFrom() snapshots a state, so a
+// flop state can be branched for every turn card without redoing the flop.
+// The strength is the same int HandEvaluator.evaluate returns for the same cards.
+public class IncrementalHand {
+    // Rank masks of ranks seen at least once, twice, three and four times
+    private int m1;
+    private int m2;
+    private int m3;
+    private int m4;
+    // One byte per suit with its card count, and 16 bits per suit with its rank mask
+    private int suitCounts;
+    private long suitRanks;
+    private int size;
+    // Strength of the current cards, or -1 until asked for after a change
+    private int strength = -1;
+
+    public IncrementalHand() {
+    }
+
+    public IncrementalHand(List<Card> cards) {
+        for (Card card : cards) {
+            add(card.getId());
+        }
+    }
+
+    public void add(int id) {
+        int bit = HandEvaluator.RANK_BIT[id];
+        int suit = HandEvaluator.SUIT[id];
+        m4 |= m3 & bit;
+        m3 |= m2 & bit;
+        m2 |= m1 & bit;
+        m1 |= bit;
+        suitCounts += 1 << (suit << 3);
+        suitRanks |= (long) bit << (suit << 4);
+        size++;
+        strength = -1;
+    }
+
+    public void add(Card card) {
+        add(card.getId());
+    }
+
+    // Best-hand strength of the cards added so far (worked out once per change)
+    public int getStrength() {
+        if (strength < 0) {
+            strength = HandEvaluator.strength(m1, m2, m3, m4, suitCounts, suitRanks);
+        }
+        return strength;
+    }
+
+    // Number of cards added
+    public int size() {
+        return size;
+    }
+
+    // Become a copy of another state
+    public void copyFrom(IncrementalHand other) {
+        m1 = other.m1;
+        m2 = other.m2;
+        m3 = other.m3;
+        m4 = other.m4;
+        suitCounts = other.suitCounts;
+        suitRanks = other.suitRanks;
+        size = other.size;
+        strength = other.strength;
+    }
+
+    public IncrementalHand copy() {
+        IncrementalHand copy = new IncrementalHand();
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    public void clear() {
+        m1 = 0;
+        m2 = 0;
+        m3 = 0;
+        m4 = 0;
+        suitCounts = 0;
+        suitRanks = 0;
+        size = 0;
+        strength = -1;
+    }
+}
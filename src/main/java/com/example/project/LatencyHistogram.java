@@ -0,0 +1,96 @@
+package com.example.project;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// A histogram of nanosecond latencies that any thread can record into without locks.
+// Buckets are log-linear like HdrHistogram's: values below 16 get one bucket each, and every
+// power of two above that is cut into 16 equal buckets, so a bucket is never more than about
+// 6% wide relative to its values. Recording is one bucket increment plus two adders.
+public class LatencyHistogram {
+    private static final int SUB_BUCKETS = 16;
+    // Enough buckets for any non-negative long
+    private static final int BUCKETS = (64 - 4 + 1) * SUB_BUCKETS;
+
+    private AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private LongAdder count = new LongAdder();
+    private LongAdder sum = new LongAdder();
+    private AtomicLong max = new AtomicLong();
+
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        counts.getAndIncrement(bucketOf(nanos));
+        count.increment();
+        sum.add(nanos);
+        if (nanos > max.get()) {
+            max.accumulateAndGet(nanos, Math::max);
+        }
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - 4)) & (SUB_BUCKETS - 1);
+        return (exponent - 3) * SUB_BUCKETS + sub;
+    }
+
+    // Largest value that falls in a bucket
+    static long highestValueIn(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + 3;
+        long low = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - 4);
+        return low + (1L << (exponent - 4)) - 1;
+    }
+
+    public long getCount() {return count.sum();}
+    public long getMax() {return max.get();}
+
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    // The value below which the given percent of recorded values fall (to bucket precision)
+    public long getValueAtPercentile(double percent) {
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(total * percent / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(highestValueIn(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d mean=%.0fns p50=%dns p99=%dns p99.9=%dns max=%dns", getCount(), getMean(),
+                getValueAtPercentile(50), getValueAtPercentile(99), getValueAtPercentile(99.9), getMax());
+    }
+}
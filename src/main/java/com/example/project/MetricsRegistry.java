@@ -0,0 +1,212 @@
+package com.example.project;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+
+// Named counters, latency histograms and gauges, plus the metrics the game records on its
+// hot paths (Player.playHand, Game.showdown / determineWinner, dealing from a Deck).
+// Nothing is recorded until a registry is made active with setActive(); the hot paths read
+// one volatile field and skip all timing while it is null.
+// Counters are LongAdders and histograms are lock-free, so recording never blocks.
+public class MetricsRegistry {
+    private static volatile MetricsRegistry active;
+
+    private Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private Map<String, DoubleSupplier> gauges = new ConcurrentHashMap<>();
+
+    // Hot-path metrics, looked up once here instead of by name on every call
+    private LatencyHistogram playHandNanos = histogram("playHand.nanos");
+    private LatencyHistogram showdownNanos = histogram("showdown.nanos");
+    private LatencyHistogram dealNanos = histogram("deck.dealCards.nanos");
+    private LongAdder splitPots = counter("showdown.splitPots");
+    private LongAdder cardsDealt = counter("deck.cardsDealt");
+    // playHand results indexed by Utility.getHandRanking number
+    private LongAdder[] handRankings = new LongAdder[12];
+
+    // Baseline for rates since the registry was made: every counter at zero
+    private Snapshot created = new Snapshot(System.nanoTime(), new TreeMap<>());
+
+    public MetricsRegistry() {
+        for (int ranking = 1; ranking < handRankings.length; ranking++) {
+            handRankings[ranking] = counter("playHand." + counterName(Utility.getHandLabel(ranking)));
+        }
+    }
+
+    // "Three of a Kind" -> "threeOfAKind", "A Pair" -> "pair"
+    private static String counterName(String label) {
+        String[] words = label.split(" ");
+        StringBuilder name = new StringBuilder();
+        for (int i = words[0].equals("A") ? 1 : 0; i < words.length; i++) {
+            String word = words[i];
+            name.append(name.length() == 0 ? word.toLowerCase() : Character.toUpperCase(word.charAt(0)) + word.substring(1));
+        }
+        return name.toString();
+    }
+
+    // The registry hot paths record into, or null when metrics are off
+    public static MetricsRegistry active() {
+        return active;
+    }
+
+    public static void setActive(MetricsRegistry registry) {
+        active = registry;
+    }
+
+    public LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    // A value read at dump time, e.g. a queue depth or a cache hit rate
+    public void gauge(String name, DoubleSupplier value) {
+        gauges.put(name, value);
+    }
+
+    // ranking is the Utility.getHandRanking number of the playHand result
+    void recordPlayHand(int ranking, long nanos) {
+        playHandNanos.record(nanos);
+        handRankings[ranking].increment();
+    }
+
+    void recordShowdown(int winners, long nanos) {
+        showdownNanos.record(nanos);
+        if (winners > 1) {
+            splitPots.increment();
+        }
+    }
+
+    void recordDeal(int cards, long nanos) {
+        dealNanos.record(nanos);
+        cardsDealt.add(cards);
+    }
+
+    void recordDraw() {
+        cardsDealt.increment();
+    }
+
+    // How many playHand calls returned a Utility.getHandRanking number (1 = Nothing .. 11 = Royal Flush)
+    public long getHandRankingCount(int ranking) {
+        return handRankings[ranking].sum();
+    }
+
+    // Every counter's value at one moment. Rates are worked out between two snapshots, so each
+    // reader keeps its own previous snapshot and readers don't disturb each other.
+    public static class Snapshot {
+        private final long nanos;
+        private final Map<String, Long> counts;
+
+        private Snapshot(long nanos, Map<String, Long> counts) {
+            this.nanos = nanos;
+            this.counts = counts;
+        }
+
+        public long getCount(String name) {
+            return counts.getOrDefault(name, 0L);
+        }
+
+        // Per-second change of a counter since an earlier snapshot
+        public double rate(String name, Snapshot since) {
+            double seconds = (nanos - since.nanos) / 1e9;
+            return seconds > 0 ? (getCount(name) - since.getCount(name)) / seconds : 0;
+        }
+    }
+
+    public Snapshot snapshot() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().sum());
+        }
+        return new Snapshot(System.nanoTime(), counts);
+    }
+
+    // Plain-text dump: one line per metric, sorted by name. Counters also show their rate per
+    // second since the registry was made.
+    public String toText() {
+        return toText(created);
+    }
+
+    // The same with counter rates since an earlier snapshot
+    public String toText(Snapshot since) {
+        return toText(snapshot(), since);
+    }
+
+    private String toText(Snapshot now, Snapshot since) {
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, Long> entry : now.counts.entrySet()) {
+            text.append(String.format("%-32s %d (%.0f/s)%n", entry.getKey(), entry.getValue(), now.rate(entry.getKey(), since)));
+        }
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(histograms).entrySet()) {
+            text.append(String.format("%-32s %s%n", entry.getKey(), entry.getValue()));
+        }
+        for (Map.Entry<String, DoubleSupplier> entry : new TreeMap<>(gauges).entrySet()) {
+            text.append(String.format("%-32s %.2f%n", entry.getKey(), entry.getValue().getAsDouble()));
+        }
+        return text.toString();
+    }
+
+    // The same metrics as one JSON object, counter rates since the registry was made
+    public String toJson() {
+        return toJson(created);
+    }
+
+    public String toJson(Snapshot since) {
+        return toJson(snapshot(), since);
+    }
+
+    private String toJson(Snapshot now, Snapshot since) {
+        StringBuilder json = new StringBuilder("{\"counters\":{");
+        String separator = "";
+        for (Map.Entry<String, Long> entry : now.counts.entrySet()) {
+            json.append(separator).append(String.format(Locale.ROOT, "\"%s\":{\"count\":%d,\"perSecond\":%.1f}",
+                    entry.getKey(), entry.getValue(), now.rate(entry.getKey(), since)));
+            separator = ",";
+        }
+        json.append("},\"histograms\":{");
+        separator = "";
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(histograms).entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            json.append(separator).append(String.format(Locale.ROOT,
+                    "\"%s\":{\"count\":%d,\"meanNanos\":%.1f,\"p50\":%d,\"p99\":%d,\"p999\":%d,\"max\":%d}",
+                    entry.getKey(), histogram.getCount(), histogram.getMean(), histogram.getValueAtPercentile(50),
+                    histogram.getValueAtPercentile(99), histogram.getValueAtPercentile(99.9), histogram.getMax()));
+            separator = ",";
+        }
+        json.append("},\"gauges\":{");
+        separator = "";
+        for (Map.Entry<String, DoubleSupplier> entry : new TreeMap<>(gauges).entrySet()) {
+            json.append(separator).append(String.format(Locale.ROOT, "\"%s\":%.4f", entry.getKey(), entry.getValue().getAsDouble()));
+            separator = ",";
+        }
+        return json.append("}}").toString();
+    }
+
+    // Write a dump to out every intervalMillis on a background thread, with counter rates over
+    // the last interval; shut the returned executor down to stop
+    public ScheduledExecutorService report(long intervalMillis, boolean json, Consumer<String> out) {
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // This reporter's own baseline, only touched by its one thread
+        Snapshot[] previous = {snapshot()};
+        reporter.scheduleAtFixedRate(() -> {
+            Snapshot now = snapshot();
+            out.accept(json ? toJson(now, previous[0]) : toText(now, previous[0]));
+            previous[0] = now;
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return reporter;
+    }
+}
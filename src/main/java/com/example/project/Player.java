@@ -12,6 +12,17 @@ public class Player {
     // All possible ranks (from "2" up to "A")
     private String[] ranks = Utility.getRanks(); // ["2", "3", ..., "J", "Q", "K", "A"]
 
+    // Single pass over hand + community cards: everything below is read from these
+    // instead of walking the cards again for every category.
+    // Cards per rank and per suit, packed (see RankCounts and SuitCounts)
+    private long rankCounts;
+    private int suitCounts;
+    // Bit r set when a card of rank index r is present, overall and per suit
+    private int rankMask;
+    private int[] suitRankMasks = new int[suits.length];
+    // allCards is only sorted when someone asks for it
+    private boolean sorted = true;
+
     // Constructor: create empty lists for hand and allCards
     public Player() {
         hand = new ArrayList<>();
@@ -23,8 +34,11 @@ public class Player {
         return hand;
     }
 
-    // Get the combined list of all cards (personal + community)
+    // Get the combined list of all cards (personal + community), sorted by rank
     public ArrayList<Card> getAllCards() {
+        if (!sorted) {
+            sortAllCards();
+        }
         return allCards;
     }
 
@@ -37,48 +51,90 @@ public class Player {
 
     // Evaluate the player's hand using the community cards and return the ranking
     public String playHand(ArrayList<Card> communityCards) {
-        allCards.clear();                     // Clear any previous cards
-        allCards.addAll(hand);                // Add player's own cards
-        allCards.addAll(communityCards);       // Add community cards
-        sortAllCards();                       // Sort them in order
-
-        // Check for hand rankings from best to worst
-        if (isRoyalFlush()) {
-            return "Royal Flush";
-        } else if (isStraightFlush()) {
-            return "Straight Flush";
-        } else if (isFourOfAKind()) {
-            return "Four of a Kind";
-        } else if (isFullHouse()) {
-            return "Full House";
-        } else if (isFlush()) {
-            return "Flush";
-        } else if (isStraight()) {
-            return "Straight";
-        } else if (isThreeOfAKind()) {
-            return "Three of a Kind";
-        } else if (isTwoPair()) {
-            return "Two Pair";
-        } else if (isPair()) {
-            return "A Pair";
+        MetricsRegistry metrics = MetricsRegistry.active();
+        if (metrics == null) {
+            return Utility.getHandLabel(rankHand(communityCards));
+        }
+        long start = System.nanoTime();
+        int ranking = rankHand(communityCards);
+        metrics.recordPlayHand(ranking, System.nanoTime() - start);
+        return Utility.getHandLabel(ranking);
+    }
+
+    // The Utility.getHandRanking number (1 = Nothing .. 11 = Royal Flush) of the best hand
+    private int rankHand(ArrayList<Card> communityCards) {
+        analyze(communityCards);
+
+        // Check for hand rankings from best to worst. Each check only looks at the counts and
+        // masks from the one pass, and the rank summary is only worked out once a check needs it.
+        int flushSuit = SuitCounts.flushSuit(suitCounts);
+        int straightFlushHigh = flushSuit == -1 ? -1 : straightHigh(suitRankMasks[flushSuit]);
+        if (straightFlushHigh == ranks.length - 1) {
+            return 11;
+        } else if (straightFlushHigh != -1) {
+            return 10;
+        }
+        int threes = RankCounts.trips(rankCounts);
+        int twos = RankCounts.pairs(rankCounts);
+        if (RankCounts.maxCount(rankCounts) >= 4) {
+            return 9;
+        } else if (threes >= 2 || (threes == 1 && twos >= 1)) {
+            // A second three-of-a-kind counts as the pair
+            return 8;
+        } else if (flushSuit != -1) {
+            return 7;
+        } else if (straightHigh(rankMask) != -1) {
+            return 6;
+        } else if (threes == 1) {
+            return 5;
+        } else if (twos >= 2) {
+            return 4;
+        } else if (twos == 1) {
+            return 3;
         }
         // If none of the above, then check for high card in the player's hand
-        Card highestCard = allCards.get(allCards.size() - 1);
-        for (Card card : hand) {
-            if (card.getRank().equals(highestCard.getRank())) {
-                return "High Card";
+        int highestRank = RankCounts.highestRank(rankCounts);
+        if (highestRank != -1) {
+            for (int i = 0; i < hand.size(); i++) {
+                if (hand.get(i).getRankIndex() == highestRank) {
+                    return 2;
+                }
             }
         }
-        // If no ranking applies, return "Nothing"
-        return "Nothing";
+        // If no ranking applies, it's "Nothing"
+        return 1;
+    }
+
+    // Collect the player's cards plus the community cards into allCards and count ranks and
+    // suits in the same loop. Reuses allCards and the masks, so nothing is allocated.
+    private void analyze(ArrayList<Card> communityCards) {
+        allCards.clear();
+        rankCounts = RankCounts.EMPTY;
+        suitCounts = SuitCounts.EMPTY;
+        for (int i = 0; i < suitRankMasks.length; i++) {
+            suitRankMasks[i] = 0;
+        }
+        rankMask = 0;
+        int total = hand.size() + communityCards.size();
+        for (int i = 0; i < total; i++) {
+            Card card = i < hand.size() ? hand.get(i) : communityCards.get(i - hand.size());
+            allCards.add(card);
+            int rank = card.getRankIndex();
+            int suit = card.getSuitIndex();
+            rankCounts = RankCounts.add(rankCounts, rank);
+            suitCounts = SuitCounts.add(suitCounts, suit);
+            rankMask |= 1 << rank;
+            suitRankMasks[suit] |= 1 << rank;
+        }
+        sorted = false;
     }
 
     // Sort all cards by rank using bubble sort (not the fastest, but simple!)
     public void sortAllCards() {
         for (int i = 0; i < allCards.size() - 1; i++) {
             for (int j = 0; j < allCards.size() - i - 1; j++) {
-                int rank1 = getRankIndex(allCards.get(j).getRank());
-                int rank2 = getRankIndex(allCards.get(j + 1).getRank());
+                int rank1 = allCards.get(j).getRankIndex();
+                int rank2 = allCards.get(j + 1).getRankIndex();
                 if (rank1 > rank2) {
                     // Swap the cards if they're out of order
                     Card temp = allCards.get(j);
@@ -87,165 +143,56 @@ public class Player {
                 }
             }
         }
+        sorted = true;
     }
 
-    // Count how many times each rank appears in allCards
+    // Cards per rank in allCards (from the last playHand), packed as RankCounts
+    public long getRankCounts() {
+        return rankCounts;
+    }
+
+    // Cards per suit in allCards (from the last playHand), packed as SuitCounts
+    public int getSuitCounts() {
+        return suitCounts;
+    }
+
+    // Count how many times each rank appears in allCards (from the last playHand).
+    // Boxes every count; getRankCounts() gives the same numbers without allocating.
     public ArrayList<Integer> findRankingFrequency() {
         ArrayList<Integer> frequency = new ArrayList<>();
-        // Start with zero count for each rank
-        for (int i = 0; i < ranks.length; i++) {
-            frequency.add(0);
+        for (int rank = 0; rank < ranks.length; rank++) {
+            frequency.add(RankCounts.count(rankCounts, rank));
         }
-
-        // Go through every card and update the count for its rank
-        for (Card card : allCards) {
-            int index = getRankIndex(card.getRank());
-            frequency.set(index, frequency.get(index) + 1);
-        }
-
         return frequency;
     }
 
-    // Count how many times each suit appears in allCards
+    // Count how many times each suit appears in allCards (from the last playHand)
     public ArrayList<Integer> findSuitFrequency() {
         ArrayList<Integer> frequency = new ArrayList<>();
-        // Initialize count to zero for each suit
-        for (int i = 0; i < suits.length; i++) {
-            frequency.add(0);
+        for (int suit = 0; suit < suits.length; suit++) {
+            frequency.add(SuitCounts.count(suitCounts, suit));
         }
-
-        // Tally up each suit from all cards
-        for (Card card : allCards) {
-            int index = getSuitIndex(card.getSuit());
-            frequency.set(index, frequency.get(index) + 1);
-        }
-
         return frequency;
     }
 
-    // Helper: get the index of a given rank from the ranks array
-    private int getRankIndex(String rank) {
-        for (int i = 0; i < ranks.length; i++) {
-            if (ranks[i].equals(rank)) {
-                return i;
-            }
-        }
-        // This shouldn't happen if the rank is valid
-        return -1;
-    }
-
-    // Helper: get the index of a given suit from the suits array
-    private int getSuitIndex(String suit) {
-        for (int i = 0; i < suits.length; i++) {
-            if (suits[i].equals(suit)) {
-                return i;
-            }
-        }
-        // Should never happen with correct suit values
-        return -1;
-    }
-
-    // Check if the hand is a flush (5+ cards of the same suit)
-    private boolean isFlush() {
-        for (int count : findSuitFrequency()) {
-            if (count >= 5) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    // Check if the hand is a straight (5 consecutive ranks)
-    private boolean isStraight() {
+    // Find the top rank of the best straight among the ranks in mask. Returns -1 if there
+    // is no straight.
+    private int straightHigh(int mask) {
+        // Walk down from the ace; the ace also counts below the 2 for A-2-3-4-5
         int consecutive = 0;
-        int prevIndex = -1;
-        // Look through sorted cards for consecutive ranks
-        for (Card card : allCards) {
-            int currentIndex = getRankIndex(card.getRank());
-            if (prevIndex != -1 && currentIndex == prevIndex + 1) {
+        for (int i = ranks.length - 1; i >= -1; i--) {
+            int rank = i >= 0 ? i : ranks.length - 1;
+            if ((mask & (1 << rank)) != 0) {
                 consecutive++;
-                // When we see 4 gaps (meaning 5 cards in a row), it's a straight
-                if (consecutive >= 4) {
-                    return true;
+                // 5 ranks in a row: the straight tops out 4 ranks above here
+                if (consecutive == 5) {
+                    return i + 4;
                 }
-            } else if (currentIndex != prevIndex) {
-                // Reset if the cards aren't consecutive
+            } else {
                 consecutive = 0;
             }
-            prevIndex = currentIndex;
-        }
-        return false;
-    }
-
-    // Check for a royal flush (straight flush that ends with an Ace)
-    private boolean isRoyalFlush() {
-        return isStraightFlush() && allCards.get(allCards.size() - 1).getRank().equals("A");
-    }
-
-    // Check for a straight flush (both straight and flush)
-    private boolean isStraightFlush() {
-        return isFlush() && isStraight();
-    }
-
-    // Check for four cards of the same rank
-    private boolean isFourOfAKind() {
-        ArrayList<Integer> freq = findRankingFrequency();
-        for (int count : freq) {
-            if (count == 4) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    // Check for a full house (a three-of-a-kind plus a pair)
-    private boolean isFullHouse() {
-        ArrayList<Integer> freq = findRankingFrequency();
-        boolean hasThree = false;
-        boolean hasTwo = false;
-        // See if there's a three-of-a-kind and a pair
-        for (int count : freq) {
-            if (count == 3) {
-                hasThree = true;
-            } else if (count == 2) {
-                hasTwo = true;
-            }
-        }
-        return hasThree && hasTwo;
-    }
-
-    // Check for three cards of the same rank
-    private boolean isThreeOfAKind() {
-        ArrayList<Integer> freq = findRankingFrequency();
-        for (int count : freq) {
-            if (count == 3) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    // Check for two different pairs
-    private boolean isTwoPair() {
-        int pairCount = 0;
-        // Count each pair you find
-        for (int count : findRankingFrequency()) {
-            if (count == 2) {
-                pairCount++;
-            }
         }
-        return pairCount >= 2;
-    }
-
-    // Check for a single pair
-    private boolean isPair() {
-        ArrayList<Integer> freq = findRankingFrequency();
-        for (int count : freq) {
-            if (count == 2) {
-                return true;
-            }
-        }
-        return false;
+        return -1;
     }
 
     // Simple override to print the player's hand nicely
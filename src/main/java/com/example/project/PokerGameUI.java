@@ -1,9 +1,61 @@
 package com.example.project;
 
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
 
 public class PokerGameUI {
     public static void main(String[] args) {
+        // Headless mode: --simulate <rounds> [players] [threads] [hand-history directory [--overwrite]]
+        if (args.length > 0 && args[0].equals("--simulate")) {
+            simulate(args);
+            return;
+        }
+        // Many concurrent tables: --tables <tables> [rounds per table] [players] [decision micros]
+        if (args.length > 1 && args[0].equals("--tables")) {
+            int tables = Integer.parseInt(args[1]);
+            int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+            int players = args.length > 3 ? Integer.parseInt(args[3]) : 6;
+            long decisionMicros = args.length > 4 ? Long.parseLong(args[4]) : 1000;
+            System.out.println(new TableServer(tables, rounds, players, decisionMicros).run(System.nanoTime()));
+            return;
+        }
+        // Deal one round of a seeded simulation again: --round <seed> <round> [players]
+        if (args.length > 2 && args[0].equals("--round")) {
+            int players = args.length > 3 ? Integer.parseInt(args[3]) : 2;
+            Game.play(players, Long.parseLong(args[1]), Long.parseLong(args[2]));
+            return;
+        }
+        // Re-run every showdown in a hand-history log: --replay <directory>
+        if (args.length > 1 && args[0].equals("--replay")) {
+            replay(args);
+            return;
+        }
+        // Evaluation service on localhost: --serve [port]
+        if (args.length > 0 && args[0].equals("--serve")) {
+            serve(args);
+            return;
+        }
+        // Measure an evaluation service (an in-process one without a port):
+        // --load-test [connections] [requests per connection] [hands per request] [pipeline depth] [port]
+        if (args.length > 0 && args[0].equals("--load-test")) {
+            loadTest(args);
+            return;
+        }
+        // Count every hand of 5, 6 or 7 cards by ranking: --census [cards]
+        if (args.length > 0 && args[0].equals("--census")) {
+            System.out.println(HandCensus.run(args.length > 1 ? Integer.parseInt(args[1]) : 7));
+            return;
+        }
+        // Build the preflop equity file: --preflop-table <file> [samples per matchup]
+        if (args.length > 1 && args[0].equals("--preflop-table")) {
+            buildPreflopTable(args);
+            return;
+        }
+
         Scanner scanner = new Scanner(System.in);
         String input = "y";
 
@@ -24,4 +76,116 @@ public class PokerGameUI {
         System.out.println("Thanks for playing!");
         scanner.close();
     }
+
+    // Run rounds in bulk with no per-round output, printing progress every second
+    private static void simulate(String[] args) {
+        long rounds = args.length > 1 ? Long.parseLong(args[1]) : 1_000_000L;
+        int players = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        long seed = System.nanoTime();
+        System.out.println("Simulating " + rounds + " rounds, " + players + " players, " + threads + " threads, seed " + seed);
+        Simulation simulation = new Simulation(players, threads);
+        HandEventStream stream = null;
+        if (args.length > 4) {
+            try {
+                boolean overwrite = args.length > 5 && args[5].equals("--overwrite");
+                // A log has to hold every round, so the workers wait for the writer rather than drop
+                stream = new HandEventStream(new HandHistoryWriter(Paths.get(args[4]), players, overwrite)).setBlockWhenFull(true);
+            } catch (FileAlreadyExistsException e) {
+                System.out.println("Hand history " + args[4] + " already exists; add --overwrite to replace it");
+                return;
+            } catch (IOException e) {
+                System.out.println("Couldn't open hand history " + args[4] + ": " + e.getMessage());
+                return;
+            }
+            simulation.setEventStream(stream);
+        }
+        SimulationStats stats = simulation.run(rounds, seed, (done, total, elapsed) -> {
+            double seconds = elapsed / 1e9;
+            System.out.printf("%5.1f%%  %d rounds  %.0f rounds/sec%n",
+                    100.0 * done / total, done, seconds > 0 ? done / seconds : 0.0);
+        }, 1000);
+        System.out.println(stats);
+        if (stream != null) {
+            stream.close();
+            System.out.println(stream);
+            if (stream.getDropped() > 0 || stream.getSinkErrors() > 0) {
+                System.out.println("Hand history " + args[4] + " is incomplete: "
+                        + stream.getDropped() + " rounds dropped, " + stream.getSinkErrors() + " write errors");
+            }
+        }
+    }
+
+    private static void replay(String[] args) {
+        long start = System.nanoTime();
+        HandHistoryReader reader;
+        try {
+            reader = new HandHistoryReader(Paths.get(args[1]));
+        } catch (IOException e) {
+            System.out.println("Couldn't read hand history " + args[1] + ": " + e.getMessage());
+            return;
+        }
+        HandHistoryReader.Replay replay = reader.replay();
+        System.out.printf("Replayed %d rounds in %.1f s, %d mismatches%n", reader.size(),
+                (System.nanoTime() - start) / 1e9, replay.getMismatches());
+        System.out.println(replay.getStats());
+    }
+
+    private static void buildPreflopTable(String[] args) {
+        Path file = Paths.get(args[1]);
+        int samples = args.length > 2 ? Integer.parseInt(args[2]) : 20000;
+
+        System.out.println("Computing 169x169 preflop equities, " + samples + " deals per matchup...");
+        long start = System.nanoTime();
+        PreflopTable table = PreflopTable.generate(samples, System.nanoTime());
+        try {
+            table.write(file);
+        } catch (IOException e) {
+            System.out.println("Couldn't write " + file + ": " + e.getMessage());
+            return;
+        }
+        System.out.printf("Wrote %s in %.1f s (AA vs KK: %.2f%%)%n", file,
+                (System.nanoTime() - start) / 1e9, table.equity("AA", "KK"));
+    }
+
+    private static void serve(String[] args) {
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 7878;
+        try {
+            EvaluationServer server = new EvaluationServer(port).start();
+            System.out.println("Evaluating hands on 127.0.0.1:" + server.getPort());
+            while (!server.awaitTermination(10, TimeUnit.SECONDS)) {
+                System.out.println(server);
+            }
+            System.out.println("Evaluation server stopped: " + server.getFailure());
+        } catch (IOException e) {
+            System.out.println("Couldn't listen on port " + port + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void loadTest(String[] args) {
+        int connections = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+        int batch = args.length > 3 ? Integer.parseInt(args[3]) : 1000;
+        int depth = args.length > 4 ? Integer.parseInt(args[4]) : 8;
+        EvaluationServer server = null;
+        try {
+            int port;
+            if (args.length > 5) {
+                port = Integer.parseInt(args[5]);
+            } else {
+                server = new EvaluationServer(0).start();
+                port = server.getPort();
+            }
+            System.out.println(EvaluationClient.loadTest("127.0.0.1", port, connections, requests, batch, depth));
+        } catch (IOException e) {
+            System.out.println("Couldn't start the evaluation server: " + e.getMessage());
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
 }
@@ -0,0 +1,162 @@
+package com.example.project;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Heads-up preflop all-in equity for every pair of the 169 starting hands.
+//
+// File layout (big-endian):
+//   int magic "PFEQ", int version, int hand count (169), int samples per matchup,
+//   then 169 * 169 unsigned shorts: equity of the row hand against the column hand,
+//   in hundredths of a percent (0 .. 10000).
+// A loaded table is a read-only memory map, so a lookup is one read from the mapped file;
+// a generated one lives in a direct buffer. Either way the table is off the heap.
+public class PreflopTable {
+    private static final int MAGIC = 0x50464551; // "PFEQ"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int CELLS = StartingHand.COUNT * StartingHand.COUNT;
+
+    private ByteBuffer data;
+    private int samples;
+
+    private PreflopTable(ByteBuffer data, int samples) {
+        this.data = data;
+        this.samples = samples;
+    }
+
+    // Equity (percent) of one starting hand class against another
+    public double equity(int hand, int opponent) {
+        return (data.getShort(HEADER_BYTES + (hand * StartingHand.COUNT + opponent) * 2) & 0xFFFF) / 100.0;
+    }
+
+    // Equity (percent) by notation, e.g. equity("AKs", "QQ")
+    public double equity(String hand, String opponent) {
+        return equity(StartingHand.parse(hand), StartingHand.parse(opponent));
+    }
+
+    // Equity (percent) of two specific cards against the class of two others
+    public double equity(Card a, Card b, Card c, Card d) {
+        return equity(StartingHand.index(a.getId(), b.getId()), StartingHand.index(c.getId(), d.getId()));
+    }
+
+    public int getSamples() {
+        return samples;
+    }
+
+    // Compute the full table by Monte Carlo. Each matchup draws `samples` random deals: a random
+    // combo of each class that don't share a card, then a random board. Matchups run in parallel
+    // on the pool; each has its own generator seeded from (seed, matchup), so the table only
+    // depends on the seed.
+    public static PreflopTable generate(int samples, long seed, ForkJoinPool pool) {
+        if (samples < 1) {
+            throw new IllegalArgumentException("Need at least one sample per matchup");
+        }
+        ByteBuffer data = ByteBuffer.allocateDirect(HEADER_BYTES + CELLS * 2);
+        writeHeader(data, samples);
+        int[][] combos = new int[StartingHand.COUNT][];
+        for (int i = 0; i < StartingHand.COUNT; i++) {
+            combos[i] = StartingHand.combos(i);
+        }
+        pool.submit(() -> IntStream.range(0, StartingHand.COUNT).parallel().forEach(i -> {
+            for (int j = i; j < StartingHand.COUNT; j++) {
+                SplittableRandom random = new SplittableRandom(seed ^ (0x9E3779B97F4A7C15L * (i * StartingHand.COUNT + j + 1)));
+                double equity = simulate(combos[i], combos[j], samples, random);
+                int value = (int) Math.round(equity * 100);
+                data.putShort(HEADER_BYTES + (i * StartingHand.COUNT + j) * 2, (short) value);
+                if (i != j) {
+                    data.putShort(HEADER_BYTES + (j * StartingHand.COUNT + i) * 2, (short) (10000 - value));
+                }
+            }
+        })).join();
+        return new PreflopTable(data, samples);
+    }
+
+    public static PreflopTable generate(int samples, long seed) {
+        return generate(samples, seed, ForkJoinPool.commonPool());
+    }
+
+    // Equity (percent) of the first class against the second
+    private static double simulate(int[] combos1, int[] combos2, int samples, SplittableRandom random) {
+        Deck deck = new Deck(random);
+        int[] hand1 = new int[7];
+        int[] hand2 = new int[7];
+        int[] board = new int[5];
+        double shares = 0;
+        for (int s = 0; s < samples; s++) {
+            int a;
+            int b;
+            int c;
+            int d;
+            // Pick combos until they don't share a card (AA vs AA, AKs vs AQs, ...)
+            do {
+                int k1 = random.nextInt(combos1.length / 2) * 2;
+                int k2 = random.nextInt(combos2.length / 2) * 2;
+                a = combos1[k1];
+                b = combos1[k1 + 1];
+                c = combos2[k2];
+                d = combos2[k2 + 1];
+            } while (a == c || a == d || b == c || b == d);
+
+            deck.removeId(a);
+            deck.removeId(b);
+            deck.removeId(c);
+            deck.removeId(d);
+            deck.dealIds(board, 0, 5);
+            deck.undeal(9);
+
+            hand1[0] = a;
+            hand1[1] = b;
+            hand2[0] = c;
+            hand2[1] = d;
+            System.arraycopy(board, 0, hand1, 2, 5);
+            System.arraycopy(board, 0, hand2, 2, 5);
+            int s1 = HandEvaluator.evaluate(hand1, 0, 7);
+            int s2 = HandEvaluator.evaluate(hand2, 0, 7);
+            shares += s1 > s2 ? 1 : s1 == s2 ? 0.5 : 0;
+        }
+        return 100.0 * shares / samples;
+    }
+
+    private static void writeHeader(ByteBuffer data, int samples) {
+        data.order(ByteOrder.BIG_ENDIAN);
+        data.putInt(0, MAGIC);
+        data.putInt(4, VERSION);
+        data.putInt(8, StartingHand.COUNT);
+        data.putInt(12, samples);
+    }
+
+    // Write the table to a file
+    public void write(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer out = data.duplicate();
+            out.clear();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+    }
+
+    // Memory-map a table written by write()
+    public static PreflopTable load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() != HEADER_BYTES + CELLS * 2) {
+                throw new IOException("Not a preflop table (wrong size): " + file);
+            }
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (map.getInt(0) != MAGIC || map.getInt(4) != VERSION || map.getInt(8) != StartingHand.COUNT) {
+                throw new IOException("Not a preflop table (bad header): " + file);
+            }
+            return new PreflopTable(map, map.getInt(12));
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.project;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Heads-up equity of one HandRange against another. Each sample picks a combo from each range
+// in proportion to its weight (picking again if the two share a card), deals the rest of the
+// board, and scores the showdown. Work is split over a fork-join pool the same way as
+// EquityCalculator.monteCarlo, so a seed always gives the same answer.
+public class RangeEquity {
+    private static final int SAMPLES_PER_TASK = 4096;
+
+    private ForkJoinPool pool;
+
+    public RangeEquity() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public RangeEquity(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    // Player 1 is the first range, player 2 the second
+    public EquityResult monteCarlo(String range1, String range2, List<Card> board, int samples) {
+        return monteCarlo(HandRange.parse(range1), HandRange.parse(range2), board, samples, System.nanoTime());
+    }
+
+    public EquityResult monteCarlo(HandRange range1, HandRange range2, List<Card> board, int samples, long seed) {
+        if (samples <= 0) {
+            throw new IllegalArgumentException("Need at least one sample");
+        }
+        if (board.size() > 5) {
+            throw new IllegalArgumentException("A board has at most 5 cards");
+        }
+        int[] boardIds = new int[board.size()];
+        long dead = 0;
+        for (int i = 0; i < boardIds.length; i++) {
+            boardIds[i] = board.get(i).getId();
+            if ((dead & (1L << boardIds[i])) != 0) {
+                throw new IllegalArgumentException("Card dealt twice: " + board.get(i));
+            }
+            dead |= 1L << boardIds[i];
+        }
+        Matchup matchup = new Matchup(range1.without(dead), range2.without(dead), boardIds);
+        return pool.invoke(new SampleTask(matchup, samples, new SplittableRandom(seed))).toResult();
+    }
+
+    // Both ranges with the board's cards taken out, ready for weighted picking
+    private static class Matchup {
+        long[] masks1;
+        long[] masks2;
+        double[] cumulative1;
+        double[] cumulative2;
+        int[] board;
+
+        Matchup(HandRange range1, HandRange range2, int[] board) {
+            this.board = board;
+            masks1 = masksOf(range1);
+            masks2 = masksOf(range2);
+            cumulative1 = cumulativeWeights(range1, 1);
+            cumulative2 = cumulativeWeights(range2, 2);
+
+            // Make sure some pair of combos can be dealt together, or sampling would never end
+            boolean possible = false;
+            for (int i = 0; i < masks1.length && !possible; i++) {
+                for (int j = 0; j < masks2.length && !possible; j++) {
+                    possible = (masks1[i] & masks2[j]) == 0 && weight(cumulative1, i) > 0 && weight(cumulative2, j) > 0;
+                }
+            }
+            if (!possible) {
+                throw new IllegalArgumentException("The two ranges always share a card with each other or the board");
+            }
+        }
+
+        private static long[] masksOf(HandRange range) {
+            long[] masks = new long[range.size()];
+            for (int i = 0; i < masks.length; i++) {
+                masks[i] = range.getMask(i);
+            }
+            return masks;
+        }
+
+        private static double[] cumulativeWeights(HandRange range, int player) {
+            double[] cumulative = new double[range.size()];
+            double total = 0;
+            for (int i = 0; i < cumulative.length; i++) {
+                total += range.getWeight(i);
+                cumulative[i] = total;
+            }
+            if (total <= 0) {
+                throw new IllegalArgumentException("Range " + player + " has no combos left after the board");
+            }
+            return cumulative;
+        }
+
+        private static double weight(double[] cumulative, int i) {
+            return i == 0 ? cumulative[0] : cumulative[i] - cumulative[i - 1];
+        }
+
+        // A combo index picked in proportion to weight
+        static int pick(double[] cumulative, SplittableRandom random) {
+            double target = random.nextDouble() * cumulative[cumulative.length - 1];
+            int i = Arrays.binarySearch(cumulative, target);
+            i = i < 0 ? -i - 1 : i + 1;
+            return Math.min(i, cumulative.length - 1);
+        }
+    }
+
+    private static class SampleTask extends RecursiveTask<EquityCalculator.Tally> {
+        private static final long serialVersionUID = 1L;
+
+        private Matchup matchup;
+        private int samples;
+        private SplittableRandom random;
+
+        SampleTask(Matchup matchup, int samples, SplittableRandom random) {
+            this.matchup = matchup;
+            this.samples = samples;
+            this.random = random;
+        }
+
+        @Override
+        protected EquityCalculator.Tally compute() {
+            if (samples <= SAMPLES_PER_TASK) {
+                return sample();
+            }
+            int half = samples / 2;
+            SampleTask left = new SampleTask(matchup, half, random.split());
+            left.fork();
+            EquityCalculator.Tally right = new SampleTask(matchup, samples - half, random).compute();
+            return right.merge(left.join());
+        }
+
+        private EquityCalculator.Tally sample() {
+            int[] board = matchup.board;
+            int missing = 5 - board.length;
+            Deck deck = new Deck(random);
+            for (int id : board) {
+                deck.removeId(id);
+            }
+            int[] hands = new int[14];
+            System.arraycopy(board, 0, hands, 2, board.length);
+            System.arraycopy(board, 0, hands, 9, board.length);
+            int[] dealt = new int[missing];
+            int[] strengths = new int[2];
+            EquityCalculator.Tally tally = new EquityCalculator.Tally(2);
+
+            for (int s = 0; s < samples; s++) {
+                long mask1;
+                long mask2;
+                do {
+                    mask1 = matchup.masks1[Matchup.pick(matchup.cumulative1, random)];
+                    mask2 = matchup.masks2[Matchup.pick(matchup.cumulative2, random)];
+                } while ((mask1 & mask2) != 0);
+
+                hands[0] = Long.numberOfTrailingZeros(mask1);
+                hands[1] = 63 - Long.numberOfLeadingZeros(mask1);
+                hands[7] = Long.numberOfTrailingZeros(mask2);
+                hands[8] = 63 - Long.numberOfLeadingZeros(mask2);
+                deck.removeId(hands[0]);
+                deck.removeId(hands[1]);
+                deck.removeId(hands[7]);
+                deck.removeId(hands[8]);
+                deck.dealIds(dealt, 0, missing);
+                deck.undeal(4 + missing);
+
+                for (int k = 0; k < missing; k++) {
+                    hands[2 + board.length + k] = dealt[k];
+                    hands[9 + board.length + k] = dealt[k];
+                }
+                strengths[0] = HandEvaluator.evaluate(hands, 0, 7);
+                strengths[1] = HandEvaluator.evaluate(hands, 7, 7);
+                tally.record(strengths);
+            }
+            return tally;
+        }
+    }
+}
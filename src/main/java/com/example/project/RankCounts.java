@@ -0,0 +1,73 @@
+package com.example.project;
+
+// How many cards of each rank a hand has, packed into one long: four bits per rank index
+// (2 = 0 .. A = 12), so 13 nibbles. Counts never go above 4, so a nibble can't overflow.
+// Everything here works on the long itself, so counting and querying allocate nothing.
+public final class RankCounts {
+    public static final long EMPTY = 0;
+
+    // Bit 0 of every rank nibble
+    private static final long LOW_BITS = 0x1111111111111L;
+
+    private RankCounts() {}
+
+    public static long add(long counts, int rank) {
+        return counts + (1L << (rank << 2));
+    }
+
+    public static int count(long counts, int rank) {
+        return (int) (counts >>> (rank << 2)) & 0xF;
+    }
+
+    // The nibble patterns are 0001, 0010, 0011 and 0100, so each of these picks out exactly
+    // the ranks with that count, one flag bit per nibble
+    private static long quadFlags(long counts) {
+        return (counts >>> 2) & LOW_BITS;
+    }
+
+    private static long tripFlags(long counts) {
+        return counts & (counts >>> 1) & LOW_BITS;
+    }
+
+    private static long pairFlags(long counts) {
+        return (counts >>> 1) & ~counts & LOW_BITS;
+    }
+
+    // The most cards of any one rank (0 for an empty hand)
+    public static int maxCount(long counts) {
+        if (quadFlags(counts) != 0) {
+            return 4;
+        } else if (tripFlags(counts) != 0) {
+            return 3;
+        } else if (pairFlags(counts) != 0) {
+            return 2;
+        }
+        return counts != 0 ? 1 : 0;
+    }
+
+    // Number of ranks with exactly two, three or four cards
+    public static int pairs(long counts) {
+        return Long.bitCount(pairFlags(counts));
+    }
+
+    public static int trips(long counts) {
+        return Long.bitCount(tripFlags(counts));
+    }
+
+    public static int quads(long counts) {
+        return Long.bitCount(quadFlags(counts));
+    }
+
+    // Highest rank index present, or -1
+    public static int highestRank(long counts) {
+        return counts == 0 ? -1 : (63 - Long.numberOfLeadingZeros(counts)) >>> 2;
+    }
+
+    public static String toString(long counts) {
+        StringBuilder text = new StringBuilder("[");
+        for (int rank = 0; rank < 13; rank++) {
+            text.append(rank == 0 ? "" : ", ").append(count(counts, rank));
+        }
+        return text.append("]").toString();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.project;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class RankedHand implements Comparable<RankedHand> {
+    // How many ranks decide ties for each category (pair rank first, then kickers, and so on)
+    private static final int[] KICKER_COUNTS = {5, 4, 3, 3, 1, 5, 2, 2, 1};
+
+    // The evaluator strength: category plus ordered kicker ranks, comparable as an int
+    private int strength;
+
+    public RankedHand(int strength) {
+        this.strength = strength;
+    }
+
+    // Rank a player's cards together with the community cards
+    public static RankedHand of(List<Card> hand, List<Card> communityCards) {
+        return new RankedHand(HandEvaluator.evaluate(hand, communityCards));
+    }
+
+    public static RankedHand of(List<Card> cards) {
+        return new RankedHand(HandEvaluator.evaluate(cards));
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    // One of the HandEvaluator categories (HIGH_CARD .. STRAIGHT_FLUSH)
+    public int getCategory() {
+        return HandEvaluator.getCategory(strength);
+    }
+
+    // Rank indexes that decide ties, most significant first
+    // (e.g. a full house gives the trips rank then the pair rank)
+    public int[] getKickers() {
+        int[] kickers = new int[KICKER_COUNTS[getCategory()]];
+        for (int i = 0; i < kickers.length; i++) {
+            kickers[i] = HandEvaluator.getKicker(strength, i);
+        }
+        return kickers;
+    }
+
+    public String getLabel() {
+        return HandEvaluator.getLabel(strength);
+    }
+
+    @Override
+    public int compareTo(RankedHand other) {
+        return Integer.compare(strength, other.strength);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof RankedHand && ((RankedHand) o).strength == strength;
+    }
+
+    @Override
+    public int hashCode() {
+        return strength;
+    }
+
+    @Override
+    public String toString() {
+        String[] ranks = Utility.getRanks();
+        int[] kickers = getKickers();
+        String[] names = new String[kickers.length];
+        for (int i = 0; i < kickers.length; i++) {
+            names[i] = ranks[kickers[i]];
+        }
+        return getLabel() + " " + Arrays.toString(names);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.project;
+
+import java.util.ArrayList;
+
+public class RoundResult {
+    private ArrayList<Player> players;
+    private ArrayList<Card> communityCards;
+    // Each player's playHand label, in seat order
+    private String[] bestHands;
+    private ShowdownResult showdown;
+
+    public RoundResult(ArrayList<Player> players, ArrayList<Card> communityCards, String[] bestHands, ShowdownResult showdown) {
+        this.players = players;
+        this.communityCards = communityCards;
+        this.bestHands = bestHands;
+        this.showdown = showdown;
+    }
+
+    public ArrayList<Player> getPlayers() {return players;}
+    public ArrayList<Card> getCommunityCards() {return communityCards;}
+    public String[] getBestHands() {return bestHands;}
+    public ShowdownResult getShowdown() {return showdown;}
+}
@@ -0,0 +1,52 @@
+package com.example.project;
+
+public class ShowdownResult {
+    // Each player's ranked hand, in seat order
+    private RankedHand[] hands;
+    // Seats (0-based) that share the pot, in seat order
+    private int[] winners;
+
+    public ShowdownResult(RankedHand[] hands, int[] winners) {
+        this.hands = hands;
+        this.winners = winners;
+    }
+
+    public RankedHand[] getHands() {return hands;}
+    public RankedHand getHand(int seat) {return hands[seat];}
+    public int[] getWinners() {return winners;}
+    public int getPlayerCount() {return hands.length;}
+
+    // True when more than one player shares the pot
+    public boolean isSplit() {
+        return winners.length > 1;
+    }
+
+    public boolean isWinner(int seat) {
+        for (int winner : winners) {
+            if (winner == seat) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Display message in the same style as Game.determineWinner
+    public String getMessage() {
+        if (winners.length == 1) {
+            return "Player " + (winners[0] + 1) + " wins!";
+        }
+        if (winners.length == hands.length) {
+            return "Tie!";
+        }
+        String message = "Split pot: Player " + (winners[0] + 1);
+        for (int i = 1; i < winners.length; i++) {
+            message += ", Player " + (winners[i] + 1);
+        }
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.project;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Plays rounds in bulk with no console I/O: deals card ids, ranks them with HandEvaluator
+// and only keeps counts. Each worker thread has its own deck and stats, which are merged once
+// at the end. Round i of a run is dealt after Deck.reset(seed, i) in the same order as
+// Game.playRound, so the totals don't depend on the thread count and any single round can be
+// dealt again with Game.playRound(players, seed, round).
+public class Simulation {
+    // Called from a timer thread while a run is going
+    public interface ProgressListener {
+        void progress(long roundsDone, long totalRounds, long elapsedNanos);
+    }
+
+    // Rounds a worker plays between progress updates
+    private static final int BATCH = 1 << 16;
+
+    private int players;
+    private int threads;
+    // Optional: every round is published here as a HandEvent (null means no events)
+    private HandEventStream eventStream;
+
+    public Simulation(int players) {
+        this(players, Runtime.getRuntime().availableProcessors());
+    }
+
+    public Simulation(int players, int threads) {
+        if (players < 2 || players * 2 + 5 > 52) {
+            throw new IllegalArgumentException("Can't deal a round to " + players + " players");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Need at least one thread");
+        }
+        this.players = players;
+        this.threads = threads;
+    }
+
+    public void setEventStream(HandEventStream eventStream) {
+        this.eventStream = eventStream;
+    }
+
+    public SimulationStats run(long rounds, long seed) {
+        return run(rounds, seed, null, 0);
+    }
+
+    // Play the given number of rounds. If a listener is given it hears about progress
+    // every intervalMillis.
+    public SimulationStats run(long rounds, long seed, ProgressListener listener, long intervalMillis) {
+        AtomicLong done = new AtomicLong();
+        long start = System.nanoTime();
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        ScheduledExecutorService reporter = null;
+        if (listener != null) {
+            reporter = Executors.newSingleThreadScheduledExecutor();
+            reporter.scheduleAtFixedRate(() -> listener.progress(done.get(), rounds, System.nanoTime() - start),
+                    intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+        try {
+            List<Callable<SimulationStats>> jobs = new ArrayList<>();
+            long firstRound = 0;
+            for (int t = 0; t < threads; t++) {
+                long share = rounds / threads + (t < rounds % threads ? 1 : 0);
+                long from = firstRound;
+                jobs.add(() -> simulate(seed, from, share, done));
+                firstRound += share;
+            }
+            SimulationStats total = new SimulationStats(players);
+            for (Future<SimulationStats> result : workers.invokeAll(jobs)) {
+                total.merge(result.get());
+            }
+            if (listener != null) {
+                listener.progress(done.get(), rounds, System.nanoTime() - start);
+            }
+            return total;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+            if (reporter != null) {
+                reporter.shutdownNow();
+            }
+        }
+    }
+
+    // One worker's share of the rounds, numbered from firstRound
+    private SimulationStats simulate(long seed, long firstRound, long rounds, AtomicLong done) {
+        HandEventStream events = eventStream;
+        SimulationStats stats = new SimulationStats(players);
+        Deck deck = new Deck();
+        int[] hands = new int[players * 7];
+        int[] board = new int[5];
+        int[] strengths = new int[players];
+        int[] holeRanks = new int[players];
+
+        long played = 0;
+        while (played < rounds) {
+            long batch = Math.min(BATCH, rounds - played);
+            for (long r = 0; r < batch; r++) {
+                deck.reset(seed, firstRound + played + r);
+                // One card to each player, then a second, like Game.playRound
+                for (int i = 0; i < 2; i++) {
+                    for (int p = 0; p < players; p++) {
+                        hands[p * 7 + i] = deck.drawId();
+                    }
+                }
+                deck.dealIds(board, 0, 5);
+                for (int p = 0; p < players; p++) {
+                    System.arraycopy(board, 0, hands, p * 7 + 2, 5);
+                    strengths[p] = HandEvaluator.evaluate(hands, p * 7, 7);
+                    holeRanks[p] = (1 << Card.rankOf(hands[p * 7])) | (1 << Card.rankOf(hands[p * 7 + 1]));
+                }
+                stats.record(strengths, holeRanks);
+                if (events != null) {
+                    events.publish(toEvent(firstRound + played + r, hands, board, strengths, holeRanks));
+                }
+            }
+            played += batch;
+            done.addAndGet(batch);
+        }
+        return stats;
+    }
+
+    private HandEvent toEvent(long round, int[] hands, int[] board, int[] strengths, int[] holeRanks) {
+        int[] holeCards = new int[players * 2];
+        int[] handRankings = new int[players];
+        int best = -1;
+        long winners = 0;
+        for (int p = 0; p < players; p++) {
+            holeCards[p * 2] = hands[p * 7];
+            holeCards[p * 2 + 1] = hands[p * 7 + 1];
+            handRankings[p] = HandEvaluator.getHandRanking(strengths[p], holeRanks[p]);
+            if (strengths[p] > best) {
+                best = strengths[p];
+                winners = 1L << p;
+            } else if (strengths[p] == best) {
+                winners |= 1L << p;
+            }
+        }
+        return new HandEvent(round, holeCards, board.clone(), handRankings, strengths.clone(), winners);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.project;
+
+public class SimulationStats {
+    private long rounds;
+    // Rounds each seat won alone
+    private long[] wins;
+    // Rounds each seat split with someone else
+    private long[] ties;
+    // Rounds that ended in a split pot
+    private long splitRounds;
+    // How often each hand came up, indexed by Utility.getHandRanking (1 = Nothing .. 11 = Royal Flush)
+    private long[] categories = new long[12];
+
+    public SimulationStats(int players) {
+        wins = new long[players];
+        ties = new long[players];
+    }
+
+    // Record one round: every seat's strength and its hole-card rank mask
+    public void record(int[] strengths, int[] holeRanks) {
+        int best = -1;
+        int winners = 0;
+        for (int p = 0; p < strengths.length; p++) {
+            int strength = strengths[p];
+            categories[HandEvaluator.getHandRanking(strength, holeRanks[p])]++;
+            if (strength > best) {
+                best = strength;
+                winners = 1;
+            } else if (strength == best) {
+                winners++;
+            }
+        }
+        for (int p = 0; p < strengths.length; p++) {
+            if (strengths[p] == best) {
+                if (winners == 1) {
+                    wins[p]++;
+                } else {
+                    ties[p]++;
+                }
+            }
+        }
+        if (winners > 1) {
+            splitRounds++;
+        }
+        rounds++;
+    }
+
+    // Add another worker's counts into this one
+    public SimulationStats merge(SimulationStats other) {
+        rounds += other.rounds;
+        splitRounds += other.splitRounds;
+        for (int p = 0; p < wins.length; p++) {
+            wins[p] += other.wins[p];
+            ties[p] += other.ties[p];
+        }
+        for (int i = 0; i < categories.length; i++) {
+            categories[i] += other.categories[i];
+        }
+        return this;
+    }
+
+    public long getRounds() {return rounds;}
+    public int getPlayerCount() {return wins.length;}
+    public long getWins(int seat) {return wins[seat];}
+    public long getTies(int seat) {return ties[seat];}
+    public long getSplitRounds() {return splitRounds;}
+
+    // How many hands (over all seats) came out as the given Utility.getHandRanking value
+    public long getCategoryCount(int handRanking) {
+        return categories[handRanking];
+    }
+
+    @Override
+    public String toString() {
+        long hands = rounds * wins.length;
+        StringBuilder sb = new StringBuilder();
+        sb.append(rounds).append(" rounds, ").append(splitRounds).append(" split pots\n");
+        for (int p = 0; p < wins.length; p++) {
+            sb.append(String.format("Player %d: %d wins, %d ties%n", p + 1, wins[p], ties[p]));
+        }
+        for (int i = categories.length - 1; i >= 1; i--) {
+            sb.append(String.format("%-16s %12d  %7.4f%%%n", Utility.getHandLabel(i), categories[i],
+                    hands == 0 ? 0.0 : 100.0 * categories[i] / hands));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.project;
+
+// The 169 strategically different two-card starting hands: 13 pairs, 78 suited and
+// 78 offsuit hands. Index is a cell of the 13x13 grid of rank indexes: a pair sits on the
+// diagonal (r * 13 + r), a suited hand at high * 13 + low, an offsuit hand at low * 13 + high.
+public class StartingHand {
+    public static final int COUNT = 169;
+
+    // One-character rank names for hand notation, built from Utility.getRanks() ("10" becomes "T")
+    private static final char[] RANK_CHARS = new char[13];
+
+    static {
+        String[] ranks = Utility.getRanks();
+        for (int i = 0; i < ranks.length; i++) {
+            RANK_CHARS[i] = ranks[i].equals("10") ? 'T' : ranks[i].charAt(0);
+        }
+    }
+
+    public static int index(int highRank, int lowRank, boolean suited) {
+        if (highRank < lowRank) {
+            int t = highRank;
+            highRank = lowRank;
+            lowRank = t;
+        }
+        if (highRank == lowRank || suited) {
+            return highRank * 13 + lowRank;
+        }
+        return lowRank * 13 + highRank;
+    }
+
+    // The class of two specific cards
+    public static int index(int cardId1, int cardId2) {
+        return index(Card.rankOf(cardId1), Card.rankOf(cardId2), Card.suitOf(cardId1) == Card.suitOf(cardId2));
+    }
+
+    public static int highRank(int index) {
+        return Math.max(index / 13, index % 13);
+    }
+
+    public static int lowRank(int index) {
+        return Math.min(index / 13, index % 13);
+    }
+
+    public static boolean isPair(int index) {
+        return index / 13 == index % 13;
+    }
+
+    public static boolean isSuited(int index) {
+        return index / 13 > index % 13;
+    }
+
+    // Number of card combinations in a class: 6 for a pair, 4 suited, 12 offsuit
+    public static int comboCount(int index) {
+        return isPair(index) ? 6 : isSuited(index) ? 4 : 12;
+    }
+
+    // Every combination of a class as pairs of card ids: combos[2 * k] and combos[2 * k + 1]
+    public static int[] combos(int index) {
+        int high = highRank(index);
+        int low = lowRank(index);
+        int[] combos = new int[comboCount(index) * 2];
+        int n = 0;
+        for (int s1 = 0; s1 < 4; s1++) {
+            for (int s2 = 0; s2 < 4; s2++) {
+                boolean keep;
+                if (isPair(index)) {
+                    keep = s1 < s2;
+                } else if (isSuited(index)) {
+                    keep = s1 == s2;
+                } else {
+                    keep = s1 != s2;
+                }
+                if (keep) {
+                    combos[n++] = Card.idOf(high, s1);
+                    combos[n++] = Card.idOf(low, s2);
+                }
+            }
+        }
+        return combos;
+    }
+
+    // Notation such as "AA", "AKs", "T9o"
+    public static String name(int index) {
+        String name = "" + RANK_CHARS[highRank(index)] + RANK_CHARS[lowRank(index)];
+        if (isPair(index)) {
+            return name;
+        }
+        return name + (isSuited(index) ? "s" : "o");
+    }
+
+    // Rank index for a rank name: the Utility.getRanks() names plus "T" for ten.
+    // Returns -1 if unknown.
+    public static int rankIndex(String rank) {
+        if (rank.equalsIgnoreCase("T")) {
+            return 8;
+        }
+        return Utility.getRankValue(rank.toUpperCase()) - 2;
+    }
+
+    // Parse notation such as "AA", "AKs", "AKo" or "A10s"
+    public static int parse(String name) {
+        String text = name.trim();
+        boolean suited = false;
+        boolean offsuit = false;
+        char last = Character.toLowerCase(text.charAt(text.length() - 1));
+        if (last == 's' || last == 'o') {
+            suited = last == 's';
+            offsuit = last == 'o';
+            text = text.substring(0, text.length() - 1);
+        }
+        int split = text.startsWith("10") ? 2 : 1;
+        if (text.length() <= split) {
+            throw new IllegalArgumentException("Not a starting hand: " + name);
+        }
+        int first = rankIndex(text.substring(0, split));
+        int second = rankIndex(text.substring(split));
+        if (first < 0 || second < 0) {
+            throw new IllegalArgumentException("Not a starting hand: " + name);
+        }
+        if (first == second && (suited || offsuit)) {
+            throw new IllegalArgumentException("A pair can't be suited or offsuit: " + name);
+        }
+        if (first != second && !suited && !offsuit) {
+            throw new IllegalArgumentException("Say whether the hand is suited or offsuit: " + name);
+        }
+        return index(first, second, suited);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.project;
+
+// How many cards of each suit a hand has, packed into one int: a byte per suit index
+// (♠ = 0 .. ♦ = 3). This is the same layout HandEvaluator tallies suits in.
+public final class SuitCounts {
+    public static final int EMPTY = 0;
+
+    private SuitCounts() {}
+
+    public static int add(int counts, int suit) {
+        return counts + (1 << (suit << 3));
+    }
+
+    public static int count(int counts, int suit) {
+        return (counts >>> (suit << 3)) & 0xFF;
+    }
+
+    // The suit with five or more cards, or -1. Adding 123 to each byte carries a count of 5+
+    // into the byte's top bit; counts stay far below the 133 that would spill into the next byte.
+    public static int flushSuit(int counts) {
+        int flags = (counts + 0x7B7B7B7B) & 0x80808080;
+        return flags == 0 ? -1 : Integer.numberOfTrailingZeros(flags) >>> 3;
+    }
+
+    public static String toString(int counts) {
+        return "[" + count(counts, 0) + ", " + count(counts, 1) + ", " + count(counts, 2) + ", " + count(counts, 3) + "]";
+    }
+}
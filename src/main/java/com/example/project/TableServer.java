@@ -0,0 +1,160 @@
+package com.example.project;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// Headless load generator: many tables play Game rounds at the same time, each on its own
+// thread, with every player taking a random "decision" pause before the showdown.
+// Tables share nothing but the evaluator (and Game's evaluation cache, if one is set): each
+// has its own deck and random generator, seeded from (seed, table), and its own counts.
+// Tables run on virtual threads when the JVM has them (Java 21+). Otherwise they share a fixed
+// pool with one platform thread per core: tables wait their turn instead of each holding a
+// thread (and its stack) through every decision pause.
+public class TableServer {
+    private int tables;
+    private int roundsPerTable;
+    private int players;
+    // Mean pause per player per round; pauses are uniform between 0 and twice this
+    private long decisionNanos;
+
+    public TableServer(int tables, int roundsPerTable, int players, long decisionMicros) {
+        if (tables < 1 || roundsPerTable < 1) {
+            throw new IllegalArgumentException("Need at least one table and one round");
+        }
+        if (players < 2 || players * 2 + 5 > 52) {
+            throw new IllegalArgumentException("Can't deal a round to " + players + " players");
+        }
+        this.tables = tables;
+        this.roundsPerTable = roundsPerTable;
+        this.players = players;
+        this.decisionNanos = TimeUnit.MICROSECONDS.toNanos(decisionMicros);
+    }
+
+    // What a run did, across every table
+    public static class Report {
+        private int tables;
+        private long rounds;
+        private long splitPots;
+        private long elapsedNanos;
+        private boolean virtualThreads;
+        // Whole round: decisions, dealing, playHand and the showdown
+        private LatencyHistogram roundNanos = new LatencyHistogram();
+        // Just dealing and evaluating, without the decision pauses
+        private LatencyHistogram evaluationNanos = new LatencyHistogram();
+
+        public int getTables() {return tables;}
+        public long getRounds() {return rounds;}
+        public long getSplitPots() {return splitPots;}
+        public long getElapsedNanos() {return elapsedNanos;}
+        public boolean usedVirtualThreads() {return virtualThreads;}
+        public LatencyHistogram getRoundNanos() {return roundNanos;}
+        public LatencyHistogram getEvaluationNanos() {return evaluationNanos;}
+
+        public double getRoundsPerSecond() {
+            return rounds / (elapsedNanos / 1e9);
+        }
+
+        // Tables worth of rounds finished per second (rounds per second / rounds per table)
+        public double getTablesPerSecond() {
+            return tables / (elapsedNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d tables, %d rounds in %.2f s on %s threads%n"
+                    + "%.0f rounds/sec, %.1f tables/sec, %d split pots%n"
+                    + "round latency:      %s%n"
+                    + "evaluation latency: %s",
+                    tables, rounds, elapsedNanos / 1e9, virtualThreads ? "virtual" : "platform",
+                    getRoundsPerSecond(), getTablesPerSecond(), splitPots, roundNanos, evaluationNanos);
+        }
+    }
+
+    // One table's private state
+    private class Table {
+        private Deck deck;
+        private SplittableRandom random;
+        private long splitPots;
+
+        Table(long seed, int index) {
+            random = Deck.roundRandom(seed, index);
+            deck = new Deck(random.split());
+        }
+
+        void play(Report report) throws InterruptedException {
+            for (int r = 0; r < roundsPerTable; r++) {
+                long start = System.nanoTime();
+                for (int p = 0; p < players; p++) {
+                    if (decisionNanos > 0) {
+                        TimeUnit.NANOSECONDS.sleep(random.nextLong(2 * decisionNanos));
+                    }
+                }
+                long dealt = System.nanoTime();
+                RoundResult round = Game.playRound(deck, players, r);
+                long end = System.nanoTime();
+                if (round.getShowdown().isSplit()) {
+                    splitPots++;
+                }
+                report.evaluationNanos.record(end - dealt);
+                report.roundNanos.record(end - start);
+            }
+        }
+    }
+
+    public Report run(long seed) {
+        Report report = new Report();
+        ExecutorService executor = newTableExecutor();
+        report.virtualThreads = executor != null;
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(Math.min(tables, Runtime.getRuntime().availableProcessors()));
+        }
+        long start = System.nanoTime();
+        try {
+            List<Table> running = new ArrayList<>();
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < tables; t++) {
+                Table table = new Table(seed, t);
+                running.add(table);
+                results.add(executor.submit(() -> {
+                    table.play(report);
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+            report.elapsedNanos = System.nanoTime() - start;
+            report.tables = tables;
+            report.rounds = (long) tables * roundsPerTable;
+            for (Table table : running) {
+                report.splitPots += table.splitPots;
+            }
+            return report;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Table server interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A table failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() when running on Java 21+, else null.
+    // Looked up by reflection so the code still builds and runs on Java 17.
+    static ExecutorService newTableExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -15,11 +15,19 @@ public class Utility{
         "High Card"
     };
 
+    // What Player.playHand returns, indexed by the getHandRanking number of each label
+    private static String[] handLabels = {
+        null, "Nothing", "High Card", "A Pair", "Two Pair", "Three of a Kind", "Straight",
+        "Flush", "Full House", "Four of a Kind", "Straight Flush", "Royal Flush"
+    };
+
     private static String[] suits  = {"♠","♥","♣", "♦"};
     private static String[] ranks = {"2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K", "A"};
 
     public static String[] getRanks(){return ranks;}
     public static String[] getSuits(){return suits;}
+    // Label for a getHandRanking number (1 = Nothing .. 11 = Royal Flush)
+    public static String getHandLabel(int ranking){return handLabels[ranking];}
 
     public static int getRankValue(String rank){
         switch(rank){
@@ -40,6 +48,16 @@ public class Utility{
         return -1;
     }
 
+    public static int getSuitIndex(String suit){
+        switch(suit){
+            case "♠": return 0;
+            case "♥": return 1;
+            case "♣": return 2;
+            case "♦": return 3;
+        }
+        return -1;
+    }
+
     public static int getHandRanking(String result){
         switch(result){
             case "Royal Flush": return 11;
@@ -0,0 +1,334 @@
+package com.example.project;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+// Runs card sets through the reference Player.playHand path and every optimized path
+// (HandEvaluator over ids and over Card lists, IncrementalHand, BatchEvaluator,
+// EvaluationCache, Game.showdown) and reports any disagreement.
+// Winners are checked against a separate brute-force oracle: the best of every 5-card
+// subset, each ranked by a plain sort-and-group 5-card ranking.
+// Work is split into seeded chunks on the common pool, so a run is the same on any core count.
+class DifferentialHarness {
+    // Mismatches kept for the report; the rest are only counted
+    private static final int MAX_REPRODUCERS = 10;
+
+    private LongAdder checked = new LongAdder();
+    private LongAdder mismatches = new LongAdder();
+    private ConcurrentLinkedQueue<String> reproducers = new ConcurrentLinkedQueue<>();
+    private AtomicInteger kept = new AtomicInteger();
+    private EvaluationCache cache = new EvaluationCache(1 << 16);
+
+    long getChecked() {return checked.sum();}
+    long getMismatches() {return mismatches.sum();}
+    List<String> getReproducers() {return new ArrayList<>(reproducers);}
+
+    String report() {
+        String text = getChecked() + " card sets checked, " + getMismatches() + " mismatches";
+        for (String reproducer : reproducers) {
+            text += "\n  " + reproducer;
+        }
+        return text;
+    }
+
+    // `count` seeded random deals: two players, a 3 to 5 card board, half of them drawn
+    // from the adversarial generator
+    void runRandom(long count, long seed) {
+        int chunk = 1 << 12;
+        long chunks = (count + chunk - 1) / chunk;
+        LongStream.range(0, chunks).parallel().forEach(c -> {
+            Checker checker = new Checker();
+            long end = Math.min(count, (c + 1) * chunk);
+            for (long i = c * chunk; i < end; i++) {
+                SplittableRandom random = Deck.roundRandom(seed, i);
+                int boardSize = 3 + random.nextInt(3);
+                int[] cards = new int[4 + boardSize];
+                if ((i & 1) == 0) {
+                    dealRandom(cards, random);
+                } else {
+                    dealAdversarial(cards, random);
+                }
+                checker.checkDeal(cards, boardSize, seed, i);
+            }
+        });
+    }
+
+    // Every 7-card hand (C(52,7) = 133,784,560), hole cards being the two lowest ids,
+    // through the reference Player path, HandEvaluator and IncrementalHand
+    void runExhaustive() {
+        IntStream.range(0, 52 - 7 + 1).parallel().forEach(first -> {
+            Checker checker = new Checker();
+            int[] cards = new int[7];
+            CombinationIterator hands = new CombinationIterator(52, 7, first, first + 1);
+            while (hands.next()) {
+                for (int k = 0; k < 7; k++) {
+                    cards[k] = hands.get(k);
+                }
+                checker.checkCategory(cards, 7);
+            }
+        });
+    }
+
+    private static void dealRandom(int[] cards, SplittableRandom random) {
+        Deck deck = new Deck(random);
+        deck.dealIds(cards, 0, cards.length);
+    }
+
+    // Cards crowded into a few neighbouring ranks (often around the wheel) and two suits,
+    // so straights, straight flushes beside other flush cards, double trips and quads come
+    // up far more often than in random deals
+    private static void dealAdversarial(int[] cards, SplittableRandom random) {
+        int low = random.nextInt(-1, 9); // -1 puts the ace under the 2
+        int width = 5 + random.nextInt(3);
+        int suitA = random.nextInt(4);
+        int suitB = random.nextInt(4);
+        long used = 0;
+        for (int i = 0; i < cards.length; i++) {
+            int id;
+            int tries = 0;
+            do {
+                int rank = Math.floorMod(low + random.nextInt(width), 13);
+                int suit = tries > 20 ? random.nextInt(4) : random.nextInt(3) == 0 ? suitB : suitA;
+                if (tries > 40) {
+                    rank = random.nextInt(13);
+                }
+                id = Card.idOf(rank, suit);
+                tries++;
+            } while ((used & (1L << id)) != 0);
+            used |= 1L << id;
+            cards[i] = id;
+        }
+    }
+
+    // One worker's scratch objects; none are shared between threads
+    private class Checker {
+        private ArrayList<Card> board = new ArrayList<>();
+        private int[] batch = new int[7];
+        private int[] batchOut = new int[1];
+
+        // A deal of two players (cards 0-1 and 2-3) and a board (the rest)
+        void checkDeal(int[] cards, int boardSize, long seed, long index) {
+            int[] hand1 = new int[2 + boardSize];
+            int[] hand2 = new int[2 + boardSize];
+            hand1[0] = cards[0];
+            hand1[1] = cards[1];
+            hand2[0] = cards[2];
+            hand2[1] = cards[3];
+            System.arraycopy(cards, 4, hand1, 2, boardSize);
+            System.arraycopy(cards, 4, hand2, 2, boardSize);
+            checkCategory(hand1, hand1.length);
+            checkCategory(hand2, hand2.length);
+
+            // Category and winner: the brute-force oracle against HandEvaluator and Game.showdown
+            long oracle1 = bestOfFive(hand1);
+            long oracle2 = bestOfFive(hand2);
+            checkOracleCategory(hand1, oracle1);
+            checkOracleCategory(hand2, oracle2);
+            Player[] players = new Player[2];
+            for (int p = 0; p < 2; p++) {
+                players[p] = new Player();
+                players[p].addCard(Card.fromId(cards[p * 2]));
+                players[p].addCard(Card.fromId(cards[p * 2 + 1]));
+            }
+            board.clear();
+            for (int i = 4; i < cards.length; i++) {
+                board.add(Card.fromId(cards[i]));
+            }
+            ShowdownResult showdown = Game.showdown(Arrays.asList(players), board);
+            int expected = Long.signum(oracle1 - oracle2);
+            int actual = showdown.isSplit() ? 0 : showdown.isWinner(0) ? 1 : -1;
+            if (expected != actual) {
+                fail("winner: expected " + describe(expected) + " but Game.showdown said " + describe(actual)
+                        + " for " + toCards(hand1, 2) + " vs " + toCards(hand2, 2) + " on " + toCards(cards, 4, cards.length)
+                        + " (seed " + seed + ", deal " + index + ")");
+            }
+        }
+
+        private void checkOracleCategory(int[] hand, long oracle) {
+            int category = HandEvaluator.getCategory(HandEvaluator.evaluate(hand));
+            if (oracle / 371293 != category) { // 13^5
+                fail("category: oracle says " + oracle / 371293 + ", HandEvaluator says " + category
+                        + " for " + toCards(hand, 0, hand.length));
+            }
+        }
+
+        // One hand (first two cards are the hole cards) through every path
+        void checkCategory(int[] cards, int count) {
+            checked.increment();
+            String problem = findProblem(cards, count);
+            if (problem != null) {
+                int[] minimal = shrink(cards, count);
+                fail(problem + " for " + toCards(cards, 0, count) + "; minimal reproducer: "
+                        + findProblem(minimal, minimal.length) + " for " + toCards(minimal, 0, minimal.length)
+                        + " ids " + Arrays.toString(minimal));
+            }
+        }
+
+        // What goes wrong for this hand, or null when every path agrees
+        private String findProblem(int[] cards, int count) {
+            int strength = HandEvaluator.evaluate(cards, 0, count);
+            String expected = playHand(cards, count);
+            int holeRanks = (1 << Card.rankOf(cards[0])) | (1 << Card.rankOf(cards[1]));
+            String label = HandEvaluator.getLabel(strength, holeRanks);
+            if (!expected.equals(label)) {
+                return "Player.playHand says " + expected + ", HandEvaluator says " + label;
+            }
+            IncrementalHand incremental = new IncrementalHand();
+            for (int i = 0; i < count; i++) {
+                incremental.add(cards[i]);
+            }
+            if (incremental.getStrength() != strength) {
+                return "IncrementalHand strength " + incremental.getStrength() + " != " + strength;
+            }
+            if (cache.evaluate(cards, 0, count) != strength) {
+                return "EvaluationCache strength differs";
+            }
+            if (count == 7) {
+                System.arraycopy(cards, 0, batch, 0, 7);
+                BatchEvaluator.evaluate(batch, 1, batchOut);
+                if (batchOut[0] != strength) {
+                    return "BatchEvaluator strength " + batchOut[0] + " != " + strength;
+                }
+            }
+            return null;
+        }
+
+        private String playHand(int[] cards, int count) {
+            Player player = new Player();
+            player.addCard(Card.fromId(cards[0]));
+            player.addCard(Card.fromId(cards[1]));
+            ArrayList<Card> community = new ArrayList<>();
+            for (int i = 2; i < count; i++) {
+                community.add(Card.fromId(cards[i]));
+            }
+            // The Card-list evaluator has to agree with the id one as well
+            if (HandEvaluator.evaluate(player.getHand(), community) != HandEvaluator.evaluate(cards, 0, count)) {
+                return "(HandEvaluator.evaluate(List, List) differs)";
+            }
+            return player.playHand(community);
+        }
+
+        // Drop cards one at a time (down to five) while the hand still fails
+        private int[] shrink(int[] cards, int count) {
+            int[] current = Arrays.copyOf(cards, count);
+            boolean smaller = true;
+            while (smaller && current.length > 5) {
+                smaller = false;
+                for (int skip = 0; skip < current.length; skip++) {
+                    int[] candidate = new int[current.length - 1];
+                    for (int i = 0, n = 0; i < current.length; i++) {
+                        if (i != skip) {
+                            candidate[n++] = current[i];
+                        }
+                    }
+                    if (findProblem(candidate, candidate.length) != null) {
+                        current = candidate;
+                        smaller = true;
+                        break;
+                    }
+                }
+            }
+            return current;
+        }
+    }
+
+    private void fail(String message) {
+        mismatches.increment();
+        if (kept.incrementAndGet() <= MAX_REPRODUCERS) {
+            reproducers.add(message);
+        }
+    }
+
+    private static String describe(int sign) {
+        return sign > 0 ? "Player 1" : sign < 0 ? "Player 2" : "a split";
+    }
+
+    private static String toCards(int[] ids, int count) {
+        return toCards(ids, 0, count);
+    }
+
+    private static String toCards(int[] ids, int from, int to) {
+        List<Card> cards = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            cards.add(Card.fromId(ids[i]));
+        }
+        return cards.toString();
+    }
+
+    // Oracle: the best ranking over every 5-card subset
+    static long bestOfFive(int[] cards) {
+        long best = -1;
+        int[] five = new int[5];
+        CombinationIterator subsets = new CombinationIterator(cards.length, 5);
+        while (subsets.next()) {
+            for (int k = 0; k < 5; k++) {
+                five[k] = cards[subsets.get(k)];
+            }
+            best = Math.max(best, rankFive(five));
+        }
+        return best;
+    }
+
+    // Oracle: rank exactly five cards. Ranks are grouped by how often they appear and ordered
+    // by (count, rank), then written as base-13 digits after the category.
+    static long rankFive(int[] five) {
+        int[] counts = new int[13];
+        boolean flush = true;
+        for (int id : five) {
+            counts[Card.rankOf(id)]++;
+            flush &= Card.suitOf(id) == Card.suitOf(five[0]);
+        }
+        int[] order = new int[5];
+        int n = 0;
+        for (int count = 4; count >= 1; count--) {
+            for (int rank = 12; rank >= 0; rank--) {
+                if (counts[rank] == count) {
+                    for (int k = 0; k < count; k++) {
+                        order[n++] = rank;
+                    }
+                }
+            }
+        }
+        boolean distinct = counts[order[0]] == 1;
+        int straightHigh = -1;
+        if (distinct && order[0] - order[4] == 4) {
+            straightHigh = order[0];
+        } else if (distinct && order[0] == 12 && order[1] == 3) {
+            straightHigh = 3; // A-2-3-4-5
+        }
+        int top = counts[order[0]];
+        int second = counts[order[top]];
+        int category;
+        if (straightHigh >= 0 && flush) {
+            category = HandEvaluator.STRAIGHT_FLUSH;
+        } else if (top == 4) {
+            category = HandEvaluator.FOUR_OF_A_KIND;
+        } else if (top == 3 && second == 2) {
+            category = HandEvaluator.FULL_HOUSE;
+        } else if (flush) {
+            category = HandEvaluator.FLUSH;
+        } else if (straightHigh >= 0) {
+            category = HandEvaluator.STRAIGHT;
+        } else if (top == 3) {
+            category = HandEvaluator.THREE_OF_A_KIND;
+        } else if (top == 2 && second == 2) {
+            category = HandEvaluator.TWO_PAIR;
+        } else if (top == 2) {
+            category = HandEvaluator.PAIR;
+        } else {
+            category = HandEvaluator.HIGH_CARD;
+        }
+        long value = category;
+        for (int i = 0; i < 5; i++) {
+            value = value * 13 + (straightHigh >= 0 ? straightHigh : order[i]);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+public class TestDeck {
+
+    @Test
+    public void testDealsEveryCardOnce() {
+        Deck deck = new Deck();
+        long seen = 0;
+        for (int i = 0; i < 52; i++) {
+            int id = deck.drawId();
+            assertEquals(0, seen & (1L << id));
+            seen |= 1L << id;
+        }
+        assertTrue(deck.isEmpty());
+        assertNull(deck.drawCard());
+        assertEquals(-1, deck.drawId());
+    }
+
+    @Test
+    public void testResetRefillsDeck() {
+        Deck deck = new Deck();
+        ArrayList<Card> dealt = deck.dealCards(10);
+        assertEquals(10, dealt.size());
+        assertEquals(42, deck.size());
+
+        deck.reset();
+        assertEquals(52, deck.size());
+        assertEquals(52, deck.getCards().size());
+    }
+
+    @Test
+    public void testSameSeedDealsSameCards() {
+        Deck first = new Deck(new SplittableRandom(99));
+        Deck second = new Deck(new SplittableRandom(99));
+        int[] a = new int[9];
+        int[] b = new int[9];
+        first.dealIds(a, 0, 9);
+        second.dealIds(b, 0, 9);
+        assertArrayEquals(a, b);
+    }
+
+    @Test
+    public void testRemoveAndUndeal() {
+        Deck deck = new Deck();
+        Card ace = Card.of("A", "♠");
+        assertTrue(deck.remove(ace));
+        assertFalse(deck.remove(ace));
+        assertFalse(deck.getCards().contains(ace));
+
+        int[] board = new int[5];
+        deck.dealIds(board, 0, 5);
+        assertEquals(46, deck.size());
+        deck.undeal(5);
+        assertEquals(51, deck.size());
+        assertFalse(deck.getCards().contains(ace));
+    }
+
+    @Test
+    public void testSeededRoundKeepsOwnGenerator() {
+        Deck first = new Deck(new SplittableRandom(5));
+        Deck second = new Deck(new SplittableRandom(5));
+        Deck other = new Deck();
+        int[] a = new int[7];
+        int[] b = new int[7];
+        // A seeded round deals the same cards from any deck
+        first.reset(42, 7);
+        other.reset(42, 7);
+        first.dealIds(a, 0, 7);
+        other.dealIds(b, 0, 7);
+        assertArrayEquals(a, b);
+        // and a plain reset() afterwards goes back to the deck's own generator where it left off
+        first.reset();
+        second.reset();
+        first.dealIds(a, 0, 7);
+        second.dealIds(b, 0, 7);
+        assertArrayEquals(a, b);
+    }
+}
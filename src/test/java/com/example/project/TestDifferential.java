@@ -0,0 +1,47 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import org.junit.jupiter.api.Test;
+
+// Differential checks of every evaluation path against Player.playHand and a brute-force
+// oracle. The sizes come from system properties so the same tests scale up:
+//   gradle test -PfuzzCount=10000000    more random and adversarial deals (default 2000000)
+//   gradle test -PskipExhaustive        leave out the sweep of all 133,784,560 7-card hands
+public class TestDifferential {
+
+    @Test // The oracle itself: the wheel is the lowest straight, kickers count
+    public void testOracle() {
+        int[] wheel = {Card.of("A", "♠").getId(), Card.of("2", "♥").getId(), Card.of("3", "♣").getId(),
+                       Card.of("4", "♦").getId(), Card.of("5", "♠").getId()};
+        int[] sixHigh = {Card.of("6", "♠").getId(), Card.of("2", "♥").getId(), Card.of("3", "♣").getId(),
+                         Card.of("4", "♦").getId(), Card.of("5", "♠").getId()};
+        assertTrue(DifferentialHarness.rankFive(sixHigh) > DifferentialHarness.rankFive(wheel));
+        assertEquals(HandEvaluator.STRAIGHT, DifferentialHarness.rankFive(wheel) / 371293);
+
+        int[] pairKingKicker = {Card.of("9", "♠").getId(), Card.of("9", "♥").getId(), Card.of("K", "♣").getId(),
+                                Card.of("4", "♦").getId(), Card.of("2", "♠").getId()};
+        int[] pairQueenKicker = {Card.of("9", "♣").getId(), Card.of("9", "♦").getId(), Card.of("Q", "♣").getId(),
+                                 Card.of("J", "♦").getId(), Card.of("10", "♠").getId()};
+        assertTrue(DifferentialHarness.rankFive(pairKingKicker) > DifferentialHarness.rankFive(pairQueenKicker));
+    }
+
+    @Test // Seeded random and adversarial deals agree on every path
+    public void testRandomDeals() {
+        DifferentialHarness harness = new DifferentialHarness();
+        long count = Long.getLong("poker.fuzz.count", 2000000);
+        harness.runRandom(count, 20240501);
+
+        assertEquals(count * 2, harness.getChecked());
+        assertEquals(0, harness.getMismatches(), harness.report());
+    }
+
+    @Test // Every 7-card hand; skipped with -PskipExhaustive
+    public void testExhaustiveSweep() {
+        assumeTrue(Boolean.parseBoolean(System.getProperty("poker.exhaustive", "true")), "exhaustive sweep skipped");
+        DifferentialHarness harness = new DifferentialHarness();
+        harness.runExhaustive();
+
+        assertEquals(133784560L, harness.getChecked());
+        assertEquals(0, harness.getMismatches(), harness.report());
+    }
+}
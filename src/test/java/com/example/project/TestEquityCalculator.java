@@ -0,0 +1,176 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestEquityCalculator {
+
+    private static ArrayList<Card> cards(String... rankSuit) {
+        ArrayList<Card> list = new ArrayList<>();
+        for (int i = 0; i < rankSuit.length; i += 2) {
+            list.add(Card.of(rankSuit[i], rankSuit[i + 1]));
+        }
+        return list;
+    }
+
+    @Test // Aces against kings preflop is about 82% to 18%
+    public void testAcesVsKingsPreflop() {
+        List<List<Card>> hole = Arrays.asList(cards("A", "♠", "A", "♥"), cards("K", "♣", "K", "♦"));
+        EquityResult result = new EquityCalculator().monteCarlo(hole, new ArrayList<>(), 100000, 42);
+
+        assertEquals(100000, result.getBoards());
+        assertEquals(82.0, result.getEquity(0), 1.5);
+        assertEquals(100.0, result.getEquity(0) + result.getEquity(1), 1e-9);
+    }
+
+    @Test // Same seed, same answer
+    public void testSeedIsRepeatable() {
+        List<List<Card>> hole = Arrays.asList(cards("A", "♠", "K", "♠"), cards("Q", "♣", "Q", "♦"), cards("7", "♥", "6", "♥"));
+        ArrayList<Card> flop = cards("Q", "♠", "J", "♠", "2", "♥");
+        EquityCalculator calculator = new EquityCalculator();
+
+        EquityResult first = calculator.monteCarlo(hole, flop, 20000, 7);
+        EquityResult second = calculator.monteCarlo(hole, flop, 20000, 7);
+
+        for (int p = 0; p < 3; p++) {
+            assertEquals(first.getWins(p), second.getWins(p));
+            assertEquals(first.getTies(p), second.getTies(p));
+        }
+    }
+
+    @Test // With the whole board out, every sample is the same showdown
+    public void testRiverIsExact() {
+        List<List<Card>> hole = Arrays.asList(cards("A", "♠", "2", "♦"), cards("A", "♣", "3", "♦"));
+        ArrayList<Card> board = cards("K", "♠", "Q", "♥", "J", "♣", "9", "♦", "8", "♠");
+        EquityResult result = new EquityCalculator().monteCarlo(hole, board, 1000, 1);
+
+        assertEquals(1000, result.getTies(0));
+        assertEquals(50.0, result.getEquity(1), 1e-9);
+    }
+
+    @Test
+    public void testRejectsDuplicateCards() {
+        List<List<Card>> hole = Arrays.asList(cards("A", "♠", "A", "♥"), cards("A", "♠", "K", "♦"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new EquityCalculator().monteCarlo(hole, new ArrayList<>(), 10, 1));
+    }
+
+    @Test // On the turn there are 44 rivers for a flush draw against a set
+    public void testExactTurn() {
+        List<List<Card>> hole = Arrays.asList(cards("A", "♥", "K", "♥"), cards("7", "♣", "7", "♦"));
+        ArrayList<Card> board = cards("7", "♥", "2", "♥", "J", "♠", "4", "♣");
+        EquityResult result = new EquityCalculator().exact(hole, board);
+
+        assertEquals(44, result.getBoards());
+        // 9 hearts are live, but the J and 4 of hearts pair the board and give the set a full house
+        assertEquals(7, result.getWins(0));
+        assertEquals(37, result.getWins(1));
+    }
+
+    @Test // Exact flop equity agrees with a big Monte Carlo run
+    public void testExactMatchesMonteCarlo() {
+        List<List<Card>> hole = Arrays.asList(cards("A", "♠", "K", "♠"), cards("Q", "♣", "Q", "♦"));
+        ArrayList<Card> flop = cards("Q", "♠", "J", "♠", "2", "♥");
+        EquityCalculator calculator = new EquityCalculator();
+
+        EquityResult exact = calculator.exact(hole, flop);
+        EquityResult sampled = calculator.monteCarlo(hole, flop, 200000, 3);
+
+        assertEquals(CombinationIterator.count(45, 2), exact.getBoards());
+        assertEquals(exact.getEquity(0), sampled.getEquity(0), 0.5);
+    }
+
+    @Test
+    public void testCombinationRangesCoverEverything() {
+        long total = 0;
+        for (int first = 0; first < 10; first += 3) {
+            CombinationIterator it = new CombinationIterator(10, 4, first, first + 3);
+            while (it.next()) {
+                total++;
+            }
+        }
+        assertEquals(CombinationIterator.count(10, 4), total);
+    }
+
+    @Test
+    public void testStartingHandNames() {
+        assertEquals(169, StartingHand.COUNT);
+        assertEquals("AKs", StartingHand.name(StartingHand.parse("AKs")));
+        assertEquals("T9o", StartingHand.name(StartingHand.parse("109o")));
+        assertEquals("QQ", StartingHand.name(StartingHand.parse("QQ")));
+        assertEquals(6, StartingHand.comboCount(StartingHand.parse("22")));
+        assertEquals(12, StartingHand.combos(StartingHand.parse("AKo")).length / 2);
+        assertEquals(StartingHand.parse("AKs"), StartingHand.index(Card.of("K", "♥").getId(), Card.of("A", "♥").getId()));
+    }
+
+    @Test // A quick, low-sample table survives a round trip through its file
+    public void testPreflopTableRoundTrip(@TempDir Path dir) throws Exception {
+        PreflopTable table = PreflopTable.generate(300, 9);
+        Path file = dir.resolve("preflop.bin");
+        table.write(file);
+        assertEquals(16 + 169 * 169 * 2, Files.size(file));
+
+        PreflopTable loaded = PreflopTable.load(file);
+        assertEquals(300, loaded.getSamples());
+        assertEquals(table.equity("AA", "KK"), loaded.equity("AA", "KK"), 1e-9);
+        assertEquals(82.0, loaded.equity("AA", "KK"), 8.0);
+        assertEquals(100.0, loaded.equity("AKs", "72o") + loaded.equity("72o", "AKs"), 1e-9);
+    }
+
+    @Test
+    public void testHandRangeParsing() {
+        assertEquals(18, HandRange.parse("QQ+").size());
+        assertEquals(4 + 4 + 4, HandRange.parse("76s-54s").size());
+        assertEquals(16, HandRange.parse("AK").size());
+        assertEquals(3 * 12, HandRange.parse("AJo+").size());
+        assertEquals(6 * 3, HandRange.parse("JJ-99").size());
+        assertEquals(4 * 4, HandRange.parse("A5s-A2s").size());
+        // AKs is inside AK, so its four combos are only kept once
+        assertEquals(16, HandRange.parse("AK, AKs").size());
+        assertEquals(1, HandRange.parse("AsKs").size());
+        assertEquals(1, HandRange.parse("A♠10♠").size());
+        assertEquals(0.5, HandRange.parse("JJ:0.5").getWeight(0), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> HandRange.parse("QQs"));
+        assertThrows(IllegalArgumentException.class, () -> HandRange.parse("AK-Q9"));
+    }
+
+    @Test // Combos that use a known card drop out of the range
+    public void testHandRangeCardRemoval() {
+        HandRange aces = HandRange.parse("AA, AKs").without(cards("A", "♠"));
+        assertEquals(3 + 3, aces.size());
+        for (int i = 0; i < aces.size(); i++) {
+            assertNotEquals(Card.of("A", "♠").getId(), aces.getCard1(i));
+            assertNotEquals(Card.of("A", "♠").getId(), aces.getCard2(i));
+        }
+    }
+
+    @Test // A range of one combo each matches the hand-vs-hand answer
+    public void testRangeEquityMatchesSingleHands() {
+        List<List<Card>> hole = Arrays.asList(cards("A", "♠", "A", "♥"), cards("K", "♣", "K", "♦"));
+        EquityResult hands = new EquityCalculator().monteCarlo(hole, new ArrayList<>(), 100000, 3);
+        EquityResult ranges = new RangeEquity().monteCarlo(HandRange.parse("AsAh"), HandRange.parse("KcKd"),
+                new ArrayList<>(), 100000, 3);
+        assertEquals(hands.getEquity(0), ranges.getEquity(0), 1.0);
+    }
+
+    @Test // AA against KK+ ties a sixth of the time (when the other also holds aces)
+    public void testRangeEquity() {
+        RangeEquity equity = new RangeEquity();
+        EquityResult result = equity.monteCarlo(HandRange.parse("AA"), HandRange.parse("KK+"), new ArrayList<>(), 200000, 11);
+        assertEquals(200000, result.getBoards());
+        assertEquals(100.0, result.getEquity(0) + result.getEquity(1), 1e-9);
+        // 36 AA vs KK deals at ~82%, 6 AA vs AA deals at 50%
+        assertEquals((36 * 82.0 + 6 * 50.0) / 42, result.getEquity(0), 1.5);
+
+        EquityResult again = equity.monteCarlo(HandRange.parse("AA"), HandRange.parse("KK+"), new ArrayList<>(), 200000, 11);
+        assertEquals(result.getEquity(0), again.getEquity(0), 1e-9);
+
+        assertThrows(IllegalArgumentException.class, () ->
+                equity.monteCarlo(HandRange.parse("AsAh"), HandRange.parse("AsKs"), new ArrayList<>(), 10, 1));
+    }
+}
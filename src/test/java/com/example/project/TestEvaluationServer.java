@@ -0,0 +1,93 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class TestEvaluationServer {
+
+    @Test // The evaluation service answers pipelined requests in order, like Game.showdown would
+    public void testEvaluationServer() throws Exception {
+        try (EvaluationServer server = new EvaluationServer(0).start();
+             EvaluationClient client = new EvaluationClient("127.0.0.1", server.getPort())) {
+            Deck deck = new Deck(new SplittableRandom(25));
+            int hands = 3000;
+            int[] cards = new int[hands * 7];
+            for (int h = 0; h < hands; h++) {
+                deck.reset();
+                deck.dealIds(cards, h * 7, 7);
+            }
+            // Three requests in flight before reading any answer
+            int first = client.sendEvaluate(cards, hands);
+            int second = client.sendEvaluate(cards, 10);
+            int[] bad = {0, 1, 2, 3, 60, 5, 6};
+            int third = client.sendEvaluate(bad, 1);
+            EvaluationClient.Response response = client.readResponse();
+            assertEquals(first, response.getId());
+            assertTrue(response.isOk());
+            for (int h = 0; h < hands; h++) {
+                assertEquals(HandEvaluator.evaluate(cards, h * 7, 7), response.getValues()[h]);
+            }
+            assertEquals(second, client.readResponse().getId());
+            response = client.readResponse();
+            assertEquals(third, response.getId());
+            assertEquals(EvaluationServer.BAD_REQUEST, response.getStatus());
+            assertEquals(0, response.getValues().length);
+
+            int rounds = 500;
+            int players = 3;
+            int[] boards = new int[rounds * 5];
+            int[] holeCards = new int[rounds * 2 * players];
+            ShowdownResult[] expected = new ShowdownResult[rounds];
+            for (int r = 0; r < rounds; r++) {
+                RoundResult round = Game.playRound(deck, players, r);
+                for (int c = 0; c < 5; c++) {
+                    boards[r * 5 + c] = round.getCommunityCards().get(c).getId();
+                }
+                for (int p = 0; p < players; p++) {
+                    holeCards[(r * players + p) * 2] = round.getPlayers().get(p).getHand().get(0).getId();
+                    holeCards[(r * players + p) * 2 + 1] = round.getPlayers().get(p).getHand().get(1).getId();
+                }
+                expected[r] = round.getShowdown();
+            }
+            int[] winners = client.showdown(boards, holeCards, players, rounds);
+            for (int r = 0; r < rounds; r++) {
+                for (int p = 0; p < players; p++) {
+                    assertEquals(expected[r].isWinner(p), (winners[r] & (1 << p)) != 0);
+                }
+            }
+            assertEquals(1, server.getBadRequests());
+            assertEquals(hands + 10 + rounds * players, server.getEvaluations());
+
+            EvaluationClient.Report report = EvaluationClient.loadTest("127.0.0.1", server.getPort(), 2, 50, 200, 4);
+            assertEquals(100, report.getRequests());
+            assertEquals(20000, report.getEvaluations());
+            assertEquals(100, report.getLatencyNanos().getCount());
+        }
+    }
+
+    @Test // Big batches get a shallower pipeline, so the server never stops reading mid-test
+    public void testLoadTestCapsDepth() throws Exception {
+        try (EvaluationServer server = new EvaluationServer(0).start()) {
+            EvaluationClient.Report report = EvaluationClient.loadTest("127.0.0.1", server.getPort(), 1, 8, 100_000, 16);
+            long responseBytes = 4 + EvaluationServer.HEADER_BYTES + 4L * 100_000;
+            assertTrue(report.getDepth() < 16);
+            assertTrue(report.getDepth() * responseBytes < EvaluationServer.MAX_PENDING_BYTES);
+            assertEquals(800_000, report.getEvaluations());
+        }
+    }
+
+    @Test // close() stops the selector thread and drops every client
+    public void testCloseStopsServer() throws Exception {
+        EvaluationServer server = new EvaluationServer(0).start();
+        EvaluationClient client = new EvaluationClient("127.0.0.1", server.getPort());
+        assertEquals(1, client.evaluate(new int[]{0, 1, 2, 3, 4, 5, 6}, 1).length);
+        assertFalse(server.awaitTermination(10, TimeUnit.MILLISECONDS));
+        server.close();
+        assertTrue(server.awaitTermination(1, TimeUnit.SECONDS));
+        assertNull(server.getFailure());
+        assertThrows(IOException.class, () -> client.evaluate(new int[]{0, 1, 2, 3, 4, 5, 6}, 1));
+        client.close();
+    }
+}
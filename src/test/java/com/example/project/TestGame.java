@@ -1,6 +1,8 @@
 package com.example.project;
 import static org.junit.jupiter.api.Assertions.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.Test;
 
 public class TestGame {
@@ -311,4 +313,219 @@ public class TestGame {
         assertEquals("Player 2 wins!", winner);
     }   
 
+    @Test // Two Pair is decided by the pairs, not by the highest card
+    public void testTwoPairHigherSecondPair_Player1Wins() {
+        Player player1 = new Player();
+        Player player2 = new Player();
+
+        // Player 1 has Kings and Nines
+        player1.addCard(new Card("9", "♠"));
+        player1.addCard(new Card("9", "♦"));
+
+        // Player 2 has Kings and Fours with an Ace kicker
+        player2.addCard(new Card("A", "♠"));
+        player2.addCard(new Card("4", "♣"));
+
+        ArrayList<Card> communityCards = new ArrayList<>();
+        communityCards.add(new Card("K", "♦"));
+        communityCards.add(new Card("K", "♥"));
+        communityCards.add(new Card("4", "♠"));
+
+        String p1Result = player1.playHand(communityCards);
+        String p2Result = player2.playHand(communityCards);
+
+        String winner = Game.determineWinner(player1, player2, p1Result, p2Result, communityCards);
+
+        assertEquals("Player 1 wins!", winner);
+    }
+
+    @Test // Same pair, the kicker decides
+    public void testPairKicker_Player2Wins() {
+        Player player1 = new Player();
+        Player player2 = new Player();
+
+        player1.addCard(new Card("A", "♠"));
+        player1.addCard(new Card("J", "♦"));
+
+        player2.addCard(new Card("A", "♣"));
+        player2.addCard(new Card("Q", "♦"));
+
+        ArrayList<Card> communityCards = new ArrayList<>();
+        communityCards.add(new Card("A", "♦"));
+        communityCards.add(new Card("9", "♥"));
+        communityCards.add(new Card("5", "♠"));
+
+        String p1Result = player1.playHand(communityCards);
+        String p2Result = player2.playHand(communityCards);
+
+        String winner = Game.determineWinner(player1, player2, p1Result, p2Result, communityCards);
+
+        assertEquals("Player 2 wins!", winner);
+    }
+
+    @Test // Four players, the board plays for two of them
+    public void testShowdown_SplitPot() {
+        Player player1 = new Player();
+        Player player2 = new Player();
+        Player player3 = new Player();
+        Player player4 = new Player();
+
+        player1.addCard(new Card("2", "♠"));
+        player1.addCard(new Card("3", "♦"));
+
+        player2.addCard(new Card("K", "♠"));
+        player2.addCard(new Card("9", "♣"));
+
+        player3.addCard(new Card("4", "♣"));
+        player3.addCard(new Card("2", "♥"));
+
+        player4.addCard(new Card("K", "♦"));
+        player4.addCard(new Card("9", "♥"));
+
+        ArrayList<Card> communityCards = new ArrayList<>();
+        communityCards.add(new Card("A", "♦"));
+        communityCards.add(new Card("Q", "♥"));
+        communityCards.add(new Card("J", "♠"));
+        communityCards.add(new Card("8", "♣"));
+        communityCards.add(new Card("6", "♠"));
+
+        ShowdownResult result = Game.showdown(Arrays.asList(player1, player2, player3, player4), communityCards);
+
+        assertArrayEquals(new int[] {1, 3}, result.getWinners());
+        assertTrue(result.isSplit());
+        assertEquals("Split pot: Player 2, Player 4", result.getMessage());
+    }
+
+    @Test // Three players, one clear winner
+    public void testShowdown_SingleWinner() {
+        Player player1 = new Player();
+        Player player2 = new Player();
+        Player player3 = new Player();
+
+        player1.addCard(new Card("A", "♠"));
+        player1.addCard(new Card("K", "♠"));
+
+        player2.addCard(new Card("Q", "♣"));
+        player2.addCard(new Card("Q", "♦"));
+
+        player3.addCard(new Card("7", "♥"));
+        player3.addCard(new Card("2", "♣"));
+
+        ArrayList<Card> communityCards = new ArrayList<>();
+        communityCards.add(new Card("Q", "♠"));
+        communityCards.add(new Card("J", "♠"));
+        communityCards.add(new Card("10", "♠"));
+
+        ShowdownResult result = Game.showdown(Arrays.asList(player1, player2, player3), communityCards);
+
+        assertArrayEquals(new int[] {0}, result.getWinners());
+        assertEquals("Royal Flush", result.getHand(0).getLabel());
+        assertEquals("Player 1 wins!", result.getMessage());
+    }
+
+    @Test // A round can be played without printing anything
+    public void testPlayRound() {
+        RoundResult round = Game.playRound(new Deck(), 6, 0);
+
+        assertEquals(6, round.getPlayers().size());
+        assertEquals(5, round.getCommunityCards().size());
+        for (int i = 0; i < 6; i++) {
+            ArrayList<Card> hand = round.getPlayers().get(i).getHand();
+            assertEquals(2, hand.size());
+            int holeRanks = (1 << hand.get(0).getRankIndex()) | (1 << hand.get(1).getRankIndex());
+            // The printed label and the showdown ranking come from the same cards
+            assertEquals(round.getBestHands()[i],
+                    HandEvaluator.getLabel(round.getShowdown().getHand(i).getStrength(), holeRanks));
+        }
+        assertTrue(round.getShowdown().getWinners().length >= 1);
+    }
+
+    @Test // Showdowns give the same answer through the evaluation cache
+    public void testShowdownWithCache() {
+        Deck deck = new Deck(new SplittableRandom(17));
+        ArrayList<ArrayList<Player>> tables = new ArrayList<>();
+        ArrayList<ArrayList<Card>> boards = new ArrayList<>();
+        ArrayList<ShowdownResult> expected = new ArrayList<>();
+        for (int round = 0; round < 500; round++) {
+            deck.reset();
+            ArrayList<Player> players = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Player player = new Player();
+                player.addCard(deck.drawCard());
+                player.addCard(deck.drawCard());
+                players.add(player);
+            }
+            ArrayList<Card> board = deck.dealCards(5);
+            tables.add(players);
+            boards.add(board);
+            expected.add(Game.showdown(players, board));
+        }
+
+        EvaluationCache cache = new EvaluationCache(1 << 12);
+        Game.setEvaluationCache(cache);
+        try {
+            // Twice over the same rounds, so the second pass mostly hits the cache
+            for (int pass = 0; pass < 2; pass++) {
+                for (int round = 0; round < 500; round++) {
+                    ShowdownResult cached = Game.showdown(tables.get(round), boards.get(round));
+                    assertArrayEquals(expected.get(round).getWinners(), cached.getWinners());
+                    for (int i = 0; i < 4; i++) {
+                        assertEquals(expected.get(round).getHand(i).getStrength(), cached.getHand(i).getStrength());
+                    }
+                }
+            }
+        } finally {
+            Game.setEvaluationCache(null);
+        }
+        assertEquals(4000, cache.getHits() + cache.getMisses());
+        assertTrue(cache.getHits() > 0);
+        assertTrue(cache.getMisses() > 0);
+    }
+
+    @Test // A round played by Game carries the playHand labels and the showdown winners
+    public void testPlayRoundEvent() {
+        ArrayList<HandEvent> received = new ArrayList<>();
+        HandEventStream stream = new HandEventStream(16, 4, received::addAll);
+        Game.setEventStream(stream);
+        RoundResult round;
+        try {
+            round = Game.playRound(new Deck(), 4, 31);
+        } finally {
+            Game.setEventStream(null);
+            stream.close();
+        }
+        assertEquals(1, received.size());
+        HandEvent event = received.get(0);
+        assertEquals(31, event.getRound());
+        assertEquals(round.getCommunityCards(), event.getBoard());
+        for (int p = 0; p < 4; p++) {
+            assertEquals(round.getBestHands()[p], event.getLabel(p));
+            assertEquals(round.getPlayers().get(p).getHand(), event.getHoleCards(p));
+            assertEquals(round.getShowdown().isWinner(p), event.isWinner(p));
+        }
+    }
+
+    @Test // Any round of a seeded simulation can be dealt again on its own
+    public void testReplaySeededRound() {
+        ArrayList<HandEvent> events = new ArrayList<>();
+        HandEventStream stream = new HandEventStream(1 << 10, 64, events::addAll);
+        Simulation simulation = new Simulation(3, 2);
+        simulation.setEventStream(stream);
+        simulation.run(500, 2024);
+        stream.close();
+        assertEquals(500, events.size());
+
+        for (HandEvent event : events) {
+            if (event.getRound() % 50 != 7) {
+                continue;
+            }
+            RoundResult round = Game.playRound(3, 2024, event.getRound());
+            assertEquals(event.getBoard(), round.getCommunityCards());
+            for (int p = 0; p < 3; p++) {
+                assertEquals(event.getHoleCards(p), round.getPlayers().get(p).getHand());
+                assertEquals(event.getLabel(p), round.getBestHands()[p]);
+                assertEquals(event.isWinner(p), round.getShowdown().isWinner(p));
+            }
+        }
+    }
 }
@@ -0,0 +1,230 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+public class TestHandEvaluator {
+
+    // Build a list of cards from "rank suit" pairs, e.g. cards("A", "♠", "K", "♠")
+    private static ArrayList<Card> cards(String... rankSuit) {
+        ArrayList<Card> list = new ArrayList<>();
+        for (int i = 0; i < rankSuit.length; i += 2) {
+            list.add(new Card(rankSuit[i], rankSuit[i + 1]));
+        }
+        return list;
+    }
+
+    @Test
+    public void testCategories() {
+        assertEquals("Royal Flush", HandEvaluator.getLabel(HandEvaluator.evaluate(cards("10", "♠", "J", "♠", "Q", "♠", "K", "♠", "A", "♠"))));
+        assertEquals("Straight Flush", HandEvaluator.getLabel(HandEvaluator.evaluate(cards("9", "♠", "10", "♠", "J", "♠", "Q", "♠", "K", "♠"))));
+        assertEquals("Four of a Kind", HandEvaluator.getLabel(HandEvaluator.evaluate(cards("9", "♠", "9", "♦", "9", "♣", "9", "♥", "A", "♦"))));
+        assertEquals("Full House", HandEvaluator.getLabel(HandEvaluator.evaluate(cards("9", "♠", "9", "♣", "9", "♦", "A", "♥", "A", "♠"))));
+        assertEquals("Flush", HandEvaluator.getLabel(HandEvaluator.evaluate(cards("10", "♠", "J", "♠", "3", "♠", "7", "♠", "A", "♠"))));
+        assertEquals("Straight", HandEvaluator.getLabel(HandEvaluator.evaluate(cards("5", "♠", "7", "♦", "6", "♠", "8", "♣", "9", "♠"))));
+        assertEquals("Three of a Kind", HandEvaluator.getLabel(HandEvaluator.evaluate(cards("8", "♠", "8", "♣", "8", "♦", "5", "♠", "A", "♣"))));
+        assertEquals("Two Pair", HandEvaluator.getLabel(HandEvaluator.evaluate(cards("7", "♠", "8", "♣", "7", "♦", "8", "♥", "A", "♠"))));
+        assertEquals("A Pair", HandEvaluator.getLabel(HandEvaluator.evaluate(cards("5", "♠", "5", "♦", "3", "♣", "7", "♥", "A", "♠"))));
+        assertEquals("High Card", HandEvaluator.getLabel(HandEvaluator.evaluate(cards("A", "♠", "6", "♦", "5", "♣", "2", "♠", "3", "♠"))));
+    }
+
+    @Test // Every label round-trips through Utility.getHandRanking
+    public void testHandLabels() {
+        for (int ranking = 1; ranking <= 11; ranking++) {
+            assertEquals(ranking, Utility.getHandRanking(Utility.getHandLabel(ranking)));
+        }
+    }
+
+    @Test
+    public void testNothingUsesHoleRanks() {
+        int strength = HandEvaluator.evaluate(cards("3", "♠", "6", "♦", "5", "♣", "2", "♠", "A", "♠"));
+        int holeRanks = (1 << new Card("3", "♠").getRankIndex()) | (1 << new Card("6", "♦").getRankIndex());
+        assertEquals("Nothing", HandEvaluator.getLabel(strength, holeRanks));
+    }
+
+    @Test
+    public void testWheelIsLowestStraight() {
+        int wheel = HandEvaluator.evaluate(cards("A", "♠", "2", "♦", "3", "♣", "4", "♥", "5", "♠", "K", "♦", "K", "♣"));
+        int sixHigh = HandEvaluator.evaluate(cards("6", "♠", "2", "♦", "3", "♣", "4", "♥", "5", "♠", "K", "♦", "K", "♣"));
+        assertEquals(HandEvaluator.STRAIGHT, HandEvaluator.getCategory(wheel));
+        assertTrue(sixHigh > wheel);
+    }
+
+    @Test
+    public void testSevenCardsUseBestFive() {
+        // Two trips make a full house, using the higher trips
+        int twoTrips = HandEvaluator.evaluate(cards("9", "♠", "9", "♣", "9", "♦", "4", "♥", "4", "♠", "4", "♦", "A", "♣"));
+        assertEquals(HandEvaluator.FULL_HOUSE, HandEvaluator.getCategory(twoTrips));
+        assertEquals(new Card("9", "♠").getRankIndex(), HandEvaluator.getKicker(twoTrips, 0));
+
+        // A flush and a straight in different cards is only a flush
+        int split = HandEvaluator.evaluate(cards("2", "♠", "4", "♠", "6", "♠", "8", "♠", "9", "♠", "5", "♦", "7", "♣"));
+        assertEquals(HandEvaluator.FLUSH, HandEvaluator.getCategory(split));
+    }
+
+    @Test
+    public void testKickersBreakTies() {
+        int kingKicker = HandEvaluator.evaluate(cards("A", "♠", "K", "♦", "A", "♣", "7", "♥", "3", "♠"));
+        int queenKicker = HandEvaluator.evaluate(cards("A", "♥", "Q", "♦", "A", "♦", "7", "♠", "3", "♦"));
+        assertTrue(kingKicker > queenKicker);
+
+        int[] ids = {Card.of("A", "♠").getId(), Card.of("K", "♦").getId(), Card.of("A", "♣").getId(),
+                     Card.of("7", "♥").getId(), Card.of("3", "♠").getId()};
+        assertEquals(kingKicker, HandEvaluator.evaluate(ids));
+    }
+
+    @Test // The batch kernel agrees with single evaluation and with Player.playHand labels
+    public void testBatchMatchesPlayer() {
+        int hands = 5000;
+        int[] cards = new int[hands * 7];
+        Deck deck = new Deck(new SplittableRandom(11));
+        for (int h = 0; h < hands; h++) {
+            deck.reset();
+            deck.dealIds(cards, h * 7, 7);
+        }
+        int[] strengths = BatchEvaluator.evaluate(cards);
+        int[] parallel = new int[hands];
+        BatchEvaluator.evaluateParallel(cards, hands, parallel);
+
+        for (int h = 0; h < hands; h++) {
+            assertEquals(HandEvaluator.evaluate(cards, h * 7, 7), strengths[h]);
+            assertEquals(strengths[h], parallel[h]);
+
+            Player player = new Player();
+            player.addCard(Card.fromId(cards[h * 7]));
+            player.addCard(Card.fromId(cards[h * 7 + 1]));
+            ArrayList<Card> board = new ArrayList<>();
+            for (int i = 2; i < 7; i++) {
+                board.add(Card.fromId(cards[h * 7 + i]));
+            }
+            int holeRanks = (1 << Card.rankOf(cards[h * 7])) | (1 << Card.rankOf(cards[h * 7 + 1]));
+            assertEquals(player.playHand(board), HandEvaluator.getLabel(strengths[h], holeRanks));
+        }
+    }
+
+    @Test // A partial hand at the end is an error, not silently dropped
+    public void testBatchRejectsPartialHand() {
+        assertThrows(IllegalArgumentException.class, () -> BatchEvaluator.evaluate(new int[7 * 3 + 4]));
+    }
+
+    @Test // Suit-isomorphic hands share a cache entry
+    public void testCacheCanonicalSuits() {
+        EvaluationCache cache = new EvaluationCache(1024);
+        ArrayList<Card> spades = cards("A", "♠", "K", "♠");
+        ArrayList<Card> hearts = cards("A", "♥", "K", "♥");
+        ArrayList<Card> board1 = cards("Q", "♠", "J", "♠", "2", "♦");
+        ArrayList<Card> board2 = cards("Q", "♥", "J", "♥", "2", "♣");
+
+        int first = cache.evaluate(spades, board1);
+        int second = cache.evaluate(hearts, board2);
+
+        assertEquals(HandEvaluator.evaluate(spades, board1), first);
+        assertEquals(first, second);
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test // A tiny cache keeps giving right answers while it evicts
+    public void testCacheEvictsAndStaysCorrect() {
+        EvaluationCache cache = new EvaluationCache(16);
+        int[] cards = new int[7];
+        Deck deck = new Deck(new SplittableRandom(3));
+        for (int i = 0; i < 2000; i++) {
+            deck.reset();
+            deck.dealIds(cards, 0, 7);
+            assertEquals(HandEvaluator.evaluate(cards), cache.evaluate(cards, 0, 7));
+        }
+        assertEquals(16, cache.getCapacity());
+        assertTrue(cache.getEvictions() > 0);
+        assertEquals(2000, cache.getHits() + cache.getMisses());
+        assertThrows(IllegalArgumentException.class, () -> new EvaluationCache((1 << 29) + 1));
+    }
+
+    @Test // Adding cards street by street gives the same strength as evaluating them all at once
+    public void testIncrementalMatchesEvaluate() {
+        Deck deck = new Deck(new SplittableRandom(5));
+        int[] cards = new int[7];
+        for (int round = 0; round < 2000; round++) {
+            deck.reset();
+            deck.dealIds(cards, 0, 7);
+            IncrementalHand hand = new IncrementalHand();
+            for (int i = 0; i < 7; i++) {
+                hand.add(cards[i]);
+                if (i >= 4) {
+                    assertEquals(HandEvaluator.evaluate(cards, 0, i + 1), hand.getStrength());
+                }
+            }
+            IncrementalHand turn = new IncrementalHand();
+            turn.copyFrom(hand);
+            assertEquals(hand.getStrength(), turn.getStrength());
+            assertEquals(7, turn.size());
+        }
+    }
+
+    @Test // Every 5- and 7-card hand, counted by ranking, matches the published census
+    public void testCensus() {
+        HandCensus five = HandCensus.run(5);
+        assertEquals(2598960, five.getTotal());
+        assertEquals(4, five.getCount(11));
+        assertTrue(five.matchesKnownCounts(), five.toString());
+        HandCensus seven = HandCensus.run(7);
+        assertEquals(133784560, seven.getTotal());
+        assertEquals(0, seven.getCount(1));
+        assertTrue(seven.matchesKnownCounts(), seven.toString());
+        assertThrows(IllegalArgumentException.class, () -> HandCensus.run(4));
+    }
+
+    @Test // Hands and strengths kept off the heap give the same results, read from many threads
+    public void testOffHeapBuffers() {
+        int hands = 20000;
+        HandBuffer direct = HandBuffer.allocate(hands, true);
+        HandBuffer heap = HandBuffer.allocate(hands, false);
+        direct.deal(new Deck(new SplittableRandom(21)));
+        heap.deal(new Deck(new SplittableRandom(21)));
+        assertTrue(direct.isDirect());
+
+        IntBuffer strengths = BatchEvaluator.allocateStrengths(hands, true);
+        IntBuffer parallel = BatchEvaluator.allocateStrengths(hands, false);
+        BatchEvaluator.evaluate(direct, strengths);
+        BatchEvaluator.evaluateParallel(direct.readOnly(), parallel);
+        EvaluationCache cache = new EvaluationCache(1 << 10, true);
+        int[] hand = new int[7];
+        for (int h = 0; h < hands; h++) {
+            for (int c = 0; c < 7; c++) {
+                hand[c] = direct.getCardId(h, c);
+                assertEquals(heap.getCardId(h, c), hand[c]);
+            }
+            int expected = HandEvaluator.evaluate(hand, 0, 7);
+            assertEquals(expected, strengths.get(h));
+            assertEquals(expected, parallel.get(h));
+            assertEquals(expected, cache.evaluate(hand, 0, 7));
+        }
+        assertTrue(cache.isOffHeap());
+        assertTrue(cache.getEvictions() > 0);
+        assertThrows(ReadOnlyBufferException.class, () -> direct.readOnly().setHand(0, hand));
+
+        // A wrapped buffer only covers its position .. limit
+        ByteBuffer window = direct.getBuffer().duplicate();
+        window.position(7 * 10).limit(7 * 13 + 3);
+        HandBuffer wrapped = HandBuffer.wrap(window);
+        assertEquals(3, wrapped.size());
+        assertEquals(direct.getCardId(10, 0), wrapped.getCardId(0, 0));
+        assertEquals(direct.getCardId(12, 6), wrapped.getCardId(2, 6));
+        assertEquals(7 * 10, window.position());
+
+        // Strengths go from out's position up to its limit, not its capacity
+        IntBuffer out = IntBuffer.allocate(8);
+        out.position(4).limit(7);
+        BatchEvaluator.evaluate(wrapped, out);
+        assertEquals(strengths.get(10), out.get(4));
+        assertEquals(strengths.get(12), out.get(6));
+        assertEquals(4, out.position());
+        out.limit(6);
+        assertThrows(IllegalArgumentException.class, () -> BatchEvaluator.evaluate(wrapped, out));
+        assertThrows(IllegalArgumentException.class, () -> new EvaluationCache(1 << 27, true));
+    }
+}
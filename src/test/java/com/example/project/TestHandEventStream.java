@@ -0,0 +1,134 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.Test;
+
+public class TestHandEventStream {
+
+    @Test // A sink that throws an Error doesn't stop delivery, and close() delivers every accepted event
+    public void testEventStreamSurvivesFailingSink() throws Exception {
+        ArrayList<HandEvent> received = new ArrayList<>();
+        HandEventStream stream = new HandEventStream(1 << 12, 8, events -> {
+            throw new AssertionError("broken sink");
+        });
+        stream.addSink(received::addAll);
+        HandEvent event = new HandEvent(0, new int[4], new int[5], new int[] {1, 1}, new int[2], 1);
+        Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    stream.publish(event);
+                }
+            });
+            producers[t].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        stream.close();
+
+        assertEquals(2000, stream.getPublished());
+        assertEquals(2000, stream.getDelivered());
+        assertEquals(2000, received.size());
+        assertTrue(stream.getSinkErrors() > 0);
+        assertFalse(stream.publish(event));
+    }
+
+    @Test // A full queue drops new events instead of waiting
+    public void testEventQueueDropsWhenFull() {
+        HandEventQueue queue = new HandEventQueue(4);
+        HandEvent event = new HandEvent(0, new int[4], new int[5], new int[] {1, 1}, new int[2], 1);
+        for (int i = 0; i < 6; i++) {
+            queue.offer(event);
+        }
+        assertEquals(4, queue.getAccepted());
+        assertEquals(2, queue.getDropped());
+
+        ArrayList<HandEvent> out = new ArrayList<>();
+        assertEquals(3, queue.drainTo(out, 3));
+        assertTrue(queue.offer(event));
+        assertEquals(2, queue.drainTo(out, 10));
+        assertNull(queue.poll());
+    }
+
+    @Test // Closing while producers publish: every publish that returned true was delivered
+    public void testCloseWhilePublishing() throws Exception {
+        ArrayList<HandEvent> received = new ArrayList<>();
+        boolean[] closed = new boolean[1];
+        HandEventStream stream = new HandEventStream(1 << 12, 8, new HandEventSink() {
+            @Override
+            public void accept(List<HandEvent> events) {
+                received.addAll(events);
+            }
+
+            @Override
+            public void close() {
+                throw new AssertionError("broken close");
+            }
+        });
+        stream.addSink(new HandEventSink() {
+            @Override
+            public void accept(List<HandEvent> events) {
+            }
+
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        });
+        HandEvent event = new HandEvent(0, new int[4], new int[5], new int[] {1, 1}, new int[2], 1);
+        AtomicLong accepted = new AtomicLong();
+        Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < 20000; i++) {
+                    if (stream.publish(event)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+            producers[t].start();
+        }
+        Thread.sleep(2);
+        stream.close();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        assertEquals(accepted.get(), stream.getPublished());
+        assertEquals(accepted.get(), stream.getDelivered());
+        assertEquals(accepted.get(), received.size());
+        assertTrue(closed[0]);
+        assertEquals(1, stream.getSinkErrors());
+    }
+
+    @Test // A blocking stream makes producers wait for a slow sink instead of dropping
+    public void testBlockWhenFull() throws Exception {
+        ArrayList<HandEvent> received = new ArrayList<>();
+        HandEventStream stream = new HandEventStream(4, 2, events -> {
+            received.addAll(events);
+            LockSupport.parkNanos(20_000);
+        }).setBlockWhenFull(true);
+        HandEvent event = new HandEvent(0, new int[4], new int[5], new int[] {1, 1}, new int[2], 1);
+        Thread[] producers = new Thread[3];
+        for (int t = 0; t < producers.length; t++) {
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < 300; i++) {
+                    assertTrue(stream.publish(event));
+                }
+            });
+            producers[t].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        stream.close();
+
+        assertEquals(0, stream.getDropped());
+        assertEquals(900, stream.getDelivered());
+        assertEquals(900, received.size());
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestHandHistory {
+
+    @Test // Simulated rounds logged through the event stream replay to the same statistics
+    public void testHandHistoryRoundTrip(@TempDir Path dir) throws Exception {
+        HandHistoryWriter writer = new HandHistoryWriter(dir, 3, 1000);
+        HandEventStream stream = new HandEventStream(64, 16, writer).setBlockWhenFull(true);
+        Simulation simulation = new Simulation(3, 1);
+        simulation.setEventStream(stream);
+        SimulationStats simulated = simulation.run(4500, 12);
+        stream.close();
+
+        assertEquals(0, stream.getDropped());
+        assertEquals(4500, writer.getRecordsWritten());
+        assertTrue(Files.exists(dir.resolve("hands-000004.log")));
+        assertEquals(16 + 500 * (17 + 5 * 3), Files.size(dir.resolve("hands-000004.log")));
+
+        HandHistoryReader reader = new HandHistoryReader(dir);
+        assertEquals(4500, reader.size());
+        assertEquals(3, reader.getPlayerCount());
+        assertEquals(4499, reader.getRound(4499));
+
+        HandHistoryReader.Replay replay = reader.replay();
+        assertEquals(0, replay.getMismatches());
+        assertEquals(simulated.getRounds(), replay.getStats().getRounds());
+        assertEquals(simulated.getSplitRounds(), replay.getStats().getSplitRounds());
+        for (int p = 0; p < 3; p++) {
+            assertEquals(simulated.getWins(p), replay.getStats().getWins(p));
+        }
+    }
+
+    @Test // A new writer won't replace an existing log unless told to
+    public void testWriterRefusesExistingLog(@TempDir Path dir) throws Exception {
+        try (HandHistoryWriter writer = new HandHistoryWriter(dir, 2, 10)) {
+            writer.write(0, new int[] {0, 1, 2, 3}, new int[] {4, 5, 6, 7, 8}, new int[2], 3);
+        }
+        assertThrows(FileAlreadyExistsException.class, () -> new HandHistoryWriter(dir, 2, 10));
+        assertEquals(1, new HandHistoryReader(dir).size());
+
+        new HandHistoryWriter(dir, 2, 10, true).close();
+        assertFalse(Files.exists(dir.resolve("hands-000000.log")));
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class TestLatencyHistogram {
+
+    @Test // Percentiles come back within a bucket (about 6%) of the recorded values
+    public void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 1; v <= 1000; v++) {
+            histogram.record(v * 100);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(100000, histogram.getMax());
+        assertEquals(50050.0, histogram.getMean(), 1e-9);
+        assertEquals(50000, histogram.getValueAtPercentile(50), 50000 * 0.07);
+        assertEquals(99000, histogram.getValueAtPercentile(99), 99000 * 0.07);
+        assertEquals(100000, histogram.getValueAtPercentile(100));
+    }
+}
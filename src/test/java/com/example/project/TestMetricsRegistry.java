@@ -0,0 +1,49 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class TestMetricsRegistry {
+
+    @Test // With a registry active, every playHand, showdown and dealt card is counted
+    public void testMetrics() {
+        MetricsRegistry metrics = new MetricsRegistry();
+        MetricsRegistry.setActive(metrics);
+        try {
+            Deck deck = new Deck();
+            for (int r = 0; r < 200; r++) {
+                Game.playRound(deck, 3, r);
+            }
+        } finally {
+            MetricsRegistry.setActive(null);
+        }
+        long hands = 0;
+        for (int ranking = 1; ranking <= 11; ranking++) {
+            hands += metrics.getHandRankingCount(ranking);
+        }
+        assertEquals(600, hands);
+        assertEquals(600, metrics.histogram("playHand.nanos").getCount());
+        assertEquals(200, metrics.histogram("showdown.nanos").getCount());
+        assertEquals(200 * 11, metrics.counter("deck.cardsDealt").sum());
+        assertTrue(metrics.toJson().startsWith("{\"counters\":{\"deck.cardsDealt\":{\"count\":2200,"));
+        assertTrue(metrics.toText().contains("playHand.pair"));
+    }
+
+    @Test // Rates come from the caller's own baseline, so one dump doesn't reset another's
+    public void testRatesPerReader() throws Exception {
+        MetricsRegistry metrics = new MetricsRegistry();
+        MetricsRegistry.Snapshot start = metrics.snapshot();
+        metrics.counter("rounds").add(500);
+        Thread.sleep(5);
+        MetricsRegistry.Snapshot now = metrics.snapshot();
+
+        assertEquals(500, now.getCount("rounds"));
+        assertEquals(0, start.getCount("rounds"));
+        assertTrue(now.rate("rounds", start) > 0);
+        // Dumping again doesn't zero the rate: there is no shared "previous dump" to reset
+        String zeroRate = "\"rounds\":{\"count\":500,\"perSecond\":0.0}";
+        assertFalse(metrics.toJson(start).contains(zeroRate));
+        assertFalse(metrics.toJson(start).contains(zeroRate));
+        assertFalse(metrics.toJson().contains(zeroRate));
+        assertEquals(0, now.rate("rounds", now));
+    }
+}
@@ -2,6 +2,7 @@ package com.example.project;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.ArrayList;
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.Test;
 
 public class TestPlayer {
@@ -327,4 +328,128 @@ public class TestPlayer {
         player.addCard(new Card("Q", "♦"));
         assertEquals("[J of ♠, Q of ♦]", player.toString());
     }
+
+    @Test
+    public void testStraightAceLow() {
+        Player player = new Player();
+        player.addCard(new Card("A", "♠"));
+        player.addCard(new Card("2", "♦"));
+
+        ArrayList<Card> communityCards = new ArrayList<>();
+        communityCards.add(new Card("3", "♣"));
+        communityCards.add(new Card("4", "♥"));
+        communityCards.add(new Card("5", "♠"));
+
+        String handResult = player.playHand(communityCards);
+
+        assertEquals("Straight", handResult);
+    }
+
+    @Test
+    public void testFullHouseTwoThrees() {
+        Player player = new Player();
+        player.addCard(new Card("9", "♠"));
+        player.addCard(new Card("4", "♦"));
+
+        ArrayList<Card> communityCards = new ArrayList<>();
+        communityCards.add(new Card("9", "♣"));
+        communityCards.add(new Card("9", "♥"));
+        communityCards.add(new Card("4", "♠"));
+        communityCards.add(new Card("4", "♣"));
+        communityCards.add(new Card("K", "♠"));
+
+        String handResult = player.playHand(communityCards);
+
+        assertEquals("Full House", handResult);
+    }
+
+    @Test
+    public void testFlushAndStraightInDifferentCards() {
+        Player player = new Player();
+        player.addCard(new Card("5", "♦"));
+        player.addCard(new Card("7", "♣"));
+
+        ArrayList<Card> communityCards = new ArrayList<>();
+        communityCards.add(new Card("4", "♠"));
+        communityCards.add(new Card("6", "♠"));
+        communityCards.add(new Card("8", "♠"));
+        communityCards.add(new Card("2", "♠"));
+        communityCards.add(new Card("K", "♠"));
+
+        String handResult = player.playHand(communityCards);
+
+        assertEquals("Flush", handResult);
+    }
+
+    @Test
+    public void testFrequenciesAndSortedCards() {
+        Player player = new Player();
+        player.addCard(new Card("K", "♦"));
+        player.addCard(new Card("3", "♣"));
+
+        ArrayList<Card> communityCards = new ArrayList<>();
+        communityCards.add(new Card("K", "♠"));
+        communityCards.add(new Card("9", "♦"));
+        communityCards.add(new Card("3", "♦"));
+        communityCards.add(new Card("A", "♥"));
+        communityCards.add(new Card("2", "♦"));
+
+        assertEquals("Two Pair", player.playHand(communityCards));
+
+        ArrayList<Integer> ranks = player.findRankingFrequency();
+        assertEquals(13, ranks.size());
+        assertEquals(2, (int) ranks.get(11)); // kings
+        assertEquals(2, (int) ranks.get(1));  // threes
+        assertEquals(0, (int) ranks.get(5));
+        ArrayList<Integer> suits = player.findSuitFrequency();
+        assertEquals(4, (int) suits.get(3));  // diamonds
+
+        ArrayList<Card> all = player.getAllCards();
+        assertEquals(7, all.size());
+        for (int i = 1; i < all.size(); i++) {
+            assertTrue(all.get(i - 1).getRankIndex() <= all.get(i).getRankIndex());
+        }
+    }
+
+    @Test // Packed counts answer the same questions as counting cards one by one
+    public void testPackedCounts() {
+        Deck deck = new Deck(new SplittableRandom(24));
+        int[] cards = new int[7];
+        for (int round = 0; round < 5000; round++) {
+            deck.reset();
+            deck.dealIds(cards, 0, 7);
+            int[] rankCount = new int[13];
+            int[] suitCount = new int[4];
+            long ranks = RankCounts.EMPTY;
+            int suits = SuitCounts.EMPTY;
+            for (int id : cards) {
+                rankCount[Card.rankOf(id)]++;
+                suitCount[Card.suitOf(id)]++;
+                ranks = RankCounts.add(ranks, Card.rankOf(id));
+                suits = SuitCounts.add(suits, Card.suitOf(id));
+            }
+            int max = 0, pairs = 0, trips = 0, quads = 0, high = -1, flush = -1;
+            for (int rank = 0; rank < 13; rank++) {
+                assertEquals(rankCount[rank], RankCounts.count(ranks, rank));
+                max = Math.max(max, rankCount[rank]);
+                pairs += rankCount[rank] == 2 ? 1 : 0;
+                trips += rankCount[rank] == 3 ? 1 : 0;
+                quads += rankCount[rank] == 4 ? 1 : 0;
+                high = rankCount[rank] > 0 ? rank : high;
+            }
+            for (int suit = 3; suit >= 0; suit--) {
+                assertEquals(suitCount[suit], SuitCounts.count(suits, suit));
+                flush = suitCount[suit] >= 5 ? suit : flush;
+            }
+            assertEquals(max, RankCounts.maxCount(ranks));
+            assertEquals(pairs, RankCounts.pairs(ranks));
+            assertEquals(trips, RankCounts.trips(ranks));
+            assertEquals(quads, RankCounts.quads(ranks));
+            assertEquals(high, RankCounts.highestRank(ranks));
+            assertEquals(flush, SuitCounts.flushSuit(suits));
+        }
+        assertEquals(0, RankCounts.maxCount(RankCounts.EMPTY));
+        assertEquals(-1, RankCounts.highestRank(RankCounts.EMPTY));
+        assertEquals(-1, SuitCounts.flushSuit(SuitCounts.EMPTY));
+    }
 }
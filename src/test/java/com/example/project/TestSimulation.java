@@ -0,0 +1,65 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class TestSimulation {
+
+    @Test // Every simulated round has a sole winner or a split, and every hand gets a category
+    public void testSimulationCounts() {
+        SimulationStats stats = new Simulation(3, 2).run(20000, 5);
+
+        assertEquals(20000, stats.getRounds());
+        long soleWins = 0;
+        for (int p = 0; p < 3; p++) {
+            soleWins += stats.getWins(p);
+        }
+        assertEquals(20000, soleWins + stats.getSplitRounds());
+
+        long hands = 0;
+        for (int ranking = 1; ranking <= 11; ranking++) {
+            hands += stats.getCategoryCount(ranking);
+        }
+        assertEquals(60000, hands);
+    }
+
+    @Test // Every simulated round reaches the sinks as one event, numbered 0 .. rounds - 1
+    public void testSimulationEvents() {
+        long[] seen = new long[1];
+        boolean[] numbered = new boolean[5000];
+        HandEventStream stream = new HandEventStream(1 << 13, 64, events -> {
+            for (HandEvent event : events) {
+                seen[0]++;
+                numbered[(int) event.getRound()] = true;
+                assertEquals(3, event.getPlayerCount());
+                assertTrue(Long.bitCount(event.getWinners()) >= 1);
+            }
+        });
+        Simulation simulation = new Simulation(3, 2);
+        simulation.setEventStream(stream);
+        simulation.run(5000, 8);
+        stream.close();
+
+        assertEquals(0, stream.getDropped());
+        assertEquals(5000, stream.getDelivered());
+        assertEquals(5000, seen[0]);
+        for (boolean round : numbered) {
+            assertTrue(round);
+        }
+    }
+
+    @Test // The same seed gives the same totals on any number of threads
+    public void testSimulationIndependentOfThreads() {
+        SimulationStats one = new Simulation(4, 1).run(30000, 77);
+        SimulationStats three = new Simulation(4, 3).run(30000, 77);
+
+        assertEquals(one.toString(), three.toString());
+        assertEquals(one.getSplitRounds(), three.getSplitRounds());
+        for (int p = 0; p < 4; p++) {
+            assertEquals(one.getWins(p), three.getWins(p));
+            assertEquals(one.getTies(p), three.getTies(p));
+        }
+        for (int ranking = 1; ranking <= 11; ranking++) {
+            assertEquals(one.getCategoryCount(ranking), three.getCategoryCount(ranking));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class TestTableServer {
+
+    @Test // Every table plays every round, and each round is timed
+    public void testTableServer() {
+        TableServer.Report report = new TableServer(40, 25, 4, 100).run(3);
+
+        assertEquals(40, report.getTables());
+        assertEquals(1000, report.getRounds());
+        assertEquals(1000, report.getRoundNanos().getCount());
+        assertEquals(1000, report.getEvaluationNanos().getCount());
+        assertTrue(report.getRoundNanos().getMean() >= report.getEvaluationNanos().getMean());
+        assertTrue(report.getRoundsPerSecond() > 0);
+    }
+}